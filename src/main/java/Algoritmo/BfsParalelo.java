@@ -0,0 +1,224 @@
+package Algoritmo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Clase que construye el grafo de niveles de Dinic con una búsqueda en anchura paralela
+ * sincronizada por niveles. Cada frontera se reparte entre los núcleos disponibles en bloques
+ * con un número parecido de aristas, de modo que un vértice de grado alto no deja a una sola
+ * tarea con casi todo el trabajo:
+ * en los pasos de arriba hacia abajo un vértice se reclama con una operación atómica sobre
+ * su nivel, y cuando la frontera es grande se cambia a pasos de abajo hacia arriba, donde cada
+ * vértice no visitado busca un predecesor en la frontera (BFS con optimización de dirección).
+ */
+public class BfsParalelo {
+    private static final VarHandle NIVEL = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int ARISTAS_POR_BLOQUE = 2048; // Aristas revisadas por tarea paralela
+    private static final int ALFA = 14;           // Cambio a abajo-arriba si aristasFrontera > aristasSinVisitar / ALFA
+    private static final int BETA = 24;           // Vuelta a arriba-abajo si tamañoFrontera < numVertices / BETA
+
+    private final int numVertices;
+    private final int[][] adyacencia; // Vecinos en ambas direcciones, igual que la lista de Dinic
+    private final int[][] capacidad;
+    private final int[] nivel;
+    private final long gradoTotal;
+
+    private int[] frontera;
+    private int[] siguienteFrontera;
+    private final int[] limitesFrontera;  // Fin de cada bloque de la frontera actual
+    private final int[] limitesVertices;  // Fin de cada bloque de todos los vértices (abajo-arriba)
+    private final int bloquesVertices;
+    private final AtomicInteger tamanoSiguiente = new AtomicInteger();
+
+    /**
+     * Constructor de la clase BfsParalelo.
+     *
+     * @param adyacencia Lista de adyacencia (simétrica) del grafo.
+     * @param capacidad  Matriz de capacidades residuales, compartida con el algoritmo.
+     * @param nivel      Arreglo de niveles a llenar, compartido con el algoritmo.
+     */
+    public BfsParalelo(int[][] adyacencia, int[][] capacidad, int[] nivel) {
+        this.numVertices = adyacencia.length;
+        this.adyacencia = adyacencia;
+        this.capacidad = capacidad;
+        this.nivel = nivel;
+
+        long grados = 0;
+        for (int[] vecinos : adyacencia) {
+            grados += vecinos.length;
+        }
+        this.gradoTotal = grados;
+
+        this.frontera = new int[numVertices];
+        this.siguienteFrontera = new int[numVertices];
+        this.limitesFrontera = new int[numVertices + 1];
+        this.limitesVertices = new int[numVertices + 1];
+        this.bloquesVertices = partir(null, numVertices, limitesVertices);
+    }
+
+    /**
+     * Calcula los niveles de los vértices desde la fuente. La búsqueda termina al completar
+     * el nivel del sumidero, ya que los vértices más profundos no forman parte de ningún
+     * camino más corto y quedan con nivel -1.
+     *
+     * @param fuente   Nodo fuente del flujo.
+     * @param sumidero Nodo sumidero del flujo.
+     * @return true si el sumidero es alcanzable, false de lo contrario.
+     */
+    public boolean calcularNiveles(int fuente, int sumidero) {
+        Arrays.fill(nivel, -1);
+        nivel[fuente] = 0;
+        frontera[0] = fuente;
+        int tamanoFrontera = 1;
+
+        long aristasSinVisitar = gradoTotal - adyacencia[fuente].length;
+        boolean abajoArriba = false;
+        int profundidad = 0;
+
+        while (tamanoFrontera > 0 && nivel[sumidero] == -1) {
+            long aristasFrontera = 0;
+            for (int i = 0; i < tamanoFrontera; i++) {
+                aristasFrontera += adyacencia[frontera[i]].length;
+            }
+
+            if (!abajoArriba && aristasFrontera > aristasSinVisitar / ALFA) {
+                abajoArriba = true;
+            } else if (abajoArriba && tamanoFrontera < numVertices / BETA) {
+                abajoArriba = false;
+            }
+
+            tamanoSiguiente.set(0);
+            if (abajoArriba) {
+                pasoAbajoArriba(profundidad);
+            } else {
+                pasoArribaAbajo(tamanoFrontera, profundidad);
+            }
+
+            tamanoFrontera = tamanoSiguiente.get();
+            for (int i = 0; i < tamanoFrontera; i++) {
+                aristasSinVisitar -= adyacencia[siguienteFrontera[i]].length;
+            }
+
+            int[] temporal = frontera;
+            frontera = siguienteFrontera;
+            siguienteFrontera = temporal;
+            profundidad++;
+        }
+
+        return nivel[sumidero] != -1;
+    }
+
+    /**
+     * Expande la frontera actual: cada vértice de la frontera revisa sus vecinos y reclama
+     * los no visitados con una comparación e intercambio atómico sobre su nivel.
+     */
+    private void pasoArribaAbajo(int tamanoFrontera, int profundidad) {
+        int bloques = partir(frontera, tamanoFrontera, limitesFrontera);
+
+        ejecutarBloques(bloques, bloque -> {
+            int inicio = limitesFrontera[bloque];
+            int fin = limitesFrontera[bloque + 1];
+            int[] encontrados = new int[16];
+            int cantidad = 0;
+
+            for (int i = inicio; i < fin; i++) {
+                int u = frontera[i];
+                int[] filaCapacidad = capacidad[u];
+                for (int v : adyacencia[u]) {
+                    if (nivel[v] == -1 && filaCapacidad[v] > 0
+                            && NIVEL.compareAndSet(nivel, v, -1, profundidad + 1)) {
+                        if (cantidad == encontrados.length) {
+                            encontrados = Arrays.copyOf(encontrados, cantidad * 2);
+                        }
+                        encontrados[cantidad++] = v;
+                    }
+                }
+            }
+            publicar(encontrados, cantidad);
+        });
+    }
+
+    /**
+     * Cada vértice no visitado busca entre sus vecinos uno de la frontera con capacidad
+     * residual hacia él. Solo la tarea dueña del vértice escribe su nivel, por lo que no hace
+     * falta una operación atómica.
+     */
+    private void pasoAbajoArriba(int profundidad) {
+        ejecutarBloques(bloquesVertices, bloque -> {
+            int inicio = limitesVertices[bloque];
+            int fin = limitesVertices[bloque + 1];
+            int[] encontrados = new int[16];
+            int cantidad = 0;
+
+            for (int v = inicio; v < fin; v++) {
+                if (nivel[v] != -1) {
+                    continue;
+                }
+                for (int u : adyacencia[v]) {
+                    if (nivel[u] == profundidad && capacidad[u][v] > 0) {
+                        nivel[v] = profundidad + 1;
+                        if (cantidad == encontrados.length) {
+                            encontrados = Arrays.copyOf(encontrados, cantidad * 2);
+                        }
+                        encontrados[cantidad++] = v;
+                        break;
+                    }
+                }
+            }
+            publicar(encontrados, cantidad);
+        });
+    }
+
+    /**
+     * Reparte una lista de vértices en bloques consecutivos cuya suma de grados alcanza
+     * ARISTAS_POR_BLOQUE (el último puede quedar por debajo).
+     *
+     * @param vertices Vértices a repartir, o null para repartir 0..cantidad-1.
+     * @param cantidad Número de vértices a repartir.
+     * @param limites  Arreglo donde limites[b]..limites[b+1] es el rango del bloque b.
+     * @return El número de bloques.
+     */
+    private int partir(int[] vertices, int cantidad, int[] limites) {
+        int bloques = 0;
+        long aristas = 0;
+        limites[0] = 0;
+        for (int i = 0; i < cantidad; i++) {
+            aristas += adyacencia[vertices == null ? i : vertices[i]].length;
+            if (aristas >= ARISTAS_POR_BLOQUE) {
+                limites[++bloques] = i + 1;
+                aristas = 0;
+            }
+        }
+        if (limites[bloques] < cantidad || bloques == 0) {
+            limites[++bloques] = cantidad;
+        }
+        return bloques;
+    }
+
+    /**
+     * Copia los vértices descubiertos por una tarea a la siguiente frontera, reservando
+     * su rango con un único incremento atómico.
+     */
+    private void publicar(int[] encontrados, int cantidad) {
+        if (cantidad > 0) {
+            int posicion = tamanoSiguiente.getAndAdd(cantidad);
+            System.arraycopy(encontrados, 0, siguienteFrontera, posicion, cantidad);
+        }
+    }
+
+    /**
+     * Ejecuta los bloques en paralelo, o directamente en el hilo actual cuando solo hay uno.
+     */
+    private void ejecutarBloques(int bloques, IntConsumer tarea) {
+        if (bloques == 1) {
+            tarea.accept(0);
+        } else {
+            IntStream.range(0, bloques).parallel().forEach(tarea);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package Algoritmo;
+
+/**
+ * Clase que guarda el certificado de un flujo máximo: el valor del flujo, el flujo que pasa por
+ * cada arista y el conjunto de vértices del lado de la fuente en un corte mínimo. Con él,
+ * {@link VerificadorFlujo} puede comprobar el resultado de un solo algoritmo sin volver a
+ * ejecutar los demás.
+ */
+public class CertificadoFlujo {
+    private final int flujoMaximo;
+    private final int[][] flujo;        // Flujo por cada arista (u, v), entre 0 y su capacidad
+    private final boolean[] ladoFuente; // Vértices alcanzables desde la fuente en el grafo residual
+
+    /**
+     * Constructor de la clase CertificadoFlujo.
+     *
+     * @param flujoMaximo Valor del flujo máximo.
+     * @param flujo       Matriz con el flujo de cada arista.
+     * @param ladoFuente  Vértices del lado de la fuente en el corte mínimo.
+     */
+    public CertificadoFlujo(int flujoMaximo, int[][] flujo, boolean[] ladoFuente) {
+        this.flujoMaximo = flujoMaximo;
+        this.flujo = flujo;
+        this.ladoFuente = ladoFuente;
+    }
+
+    /**
+     * Construye el certificado a partir de la matriz residual final de un algoritmo.
+     * El flujo de cada arista es la parte positiva de capacidad - residual, y el lado de la
+     * fuente se obtiene con una BFS sobre los arcos de residual positivo.
+     *
+     * @param capacidad   Matriz de capacidades original.
+     * @param residual    Matriz de capacidades residuales al terminar el algoritmo.
+     * @param fuente      El nodo fuente.
+     * @param flujoMaximo Valor del flujo máximo calculado.
+     * @return El certificado del flujo.
+     */
+    public static CertificadoFlujo desdeResidual(int[][] capacidad, int[][] residual, int fuente, int flujoMaximo) {
+        int numVertices = capacidad.length;
+        int[][] flujo = new int[numVertices][numVertices];
+
+        for (int u = 0; u < numVertices; u++) {
+            for (int v = 0; v < numVertices; v++) {
+                flujo[u][v] = Math.max(0, capacidad[u][v] - residual[u][v]);
+            }
+        }
+
+        boolean[] ladoFuente = new boolean[numVertices];
+        int[] cola = new int[numVertices];
+        int inicio = 0;
+        int fin = 0;
+
+        ladoFuente[fuente] = true;
+        cola[fin++] = fuente;
+
+        while (inicio < fin) {
+            int u = cola[inicio++];
+            for (int v = 0; v < numVertices; v++) {
+                if (!ladoFuente[v] && residual[u][v] > 0) {
+                    ladoFuente[v] = true;
+                    cola[fin++] = v;
+                }
+            }
+        }
+
+        return new CertificadoFlujo(flujoMaximo, flujo, ladoFuente);
+    }
+
+    /**
+     * Devuelve el valor del flujo máximo certificado.
+     *
+     * @return El flujo máximo.
+     */
+    public int getFlujoMaximo() {
+        return flujoMaximo;
+    }
+
+    /**
+     * Devuelve la matriz con el flujo de cada arista.
+     *
+     * @return La matriz de flujo.
+     */
+    public int[][] getFlujo() {
+        return flujo;
+    }
+
+    /**
+     * Devuelve los vértices del lado de la fuente en el corte mínimo.
+     *
+     * @return Arreglo donde true indica que el vértice está del lado de la fuente.
+     */
+    public boolean[] getLadoFuente() {
+        return ladoFuente;
+    }
+}
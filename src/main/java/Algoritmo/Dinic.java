@@ -1,9 +1,5 @@
 package Algoritmo;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
-
 /**
  * Clase que implementa el algoritmo de Dinic para encontrar el flujo máximo en una red de flujo.
  * Este algoritmo utiliza búsqueda en anchura (BFS) y búsqueda en profundidad (DFS).
@@ -11,9 +7,13 @@ import java.util.Queue;
 public class Dinic {
     private int numVertices;
     private int[][] capacidad;
-    private ArrayList<Integer>[] grafo;
+    private int[][] grafo; // Lista de adyacencia (vecinos en ambas direcciones)
     private int[] nivel;
     private int[] siguiente;
+    private BfsParalelo bfsParalelo; // Se crea solo si se usa la construcción paralela de niveles
+    private Grafo red;                // Grafo original, para delegar a FlujoUnitario
+    private boolean capacidadUnitaria;
+    private CertificadoFlujo certificado;
     private int asignaciones = 0;
     private int comparaciones = 0;
 
@@ -26,21 +26,45 @@ public class Dinic {
     public Dinic(Grafo grafo) {
         this.numVertices = grafo.getCapacidad().length;
 
-        this.capacidad = grafo.getCapacidad();
+        this.red = grafo;
 
-        this.grafo = new ArrayList[numVertices];
+        // Las redes de capacidad unitaria se resuelven siempre con FlujoUnitario,
+        // por lo que no se construye la lista de adyacencia
+        this.capacidadUnitaria = grafo.esCapacidadUnitaria();
 
-        for (int i = 0; i < numVertices; i++) {
-            this.grafo[i] = new ArrayList<>();
-        }
+        if (!capacidadUnitaria) {
+            // Copiar la matriz para no modificar el grafo original y poder certificar el flujo
+            this.capacidad = new int[numVertices][];
 
-        // Construir lista de adyacencia a partir de la matriz de capacidades
-        for (int i = 0; i < numVertices; i++) {
-            for (int j = 0; j < numVertices; j++) {
+            for (int i = 0; i < numVertices; i++) {
+                this.capacidad[i] = grafo.getCapacidad()[i].clone();
+            }
+
+            // Construir lista de adyacencia a partir de la matriz de capacidades,
+            // contando primero el grado de cada vértice
+            int[] grado = new int[numVertices];
+            for (int i = 0; i < numVertices; i++) {
+                for (int j = 0; j < numVertices; j++) {
+                    if (capacidad[i][j] > 0) {
+                        grado[i]++;
+                        grado[j]++;  // Se agrega el arco inverso también
+                    }
+                }
+            }
 
-                if (capacidad[i][j] > 0) {
-                    this.grafo[i].add(j);
-                    this.grafo[j].add(i);  // Se agrega el arco inverso también
+            this.grafo = new int[numVertices][];
+
+            for (int i = 0; i < numVertices; i++) {
+                this.grafo[i] = new int[grado[i]];
+                grado[i] = 0;
+            }
+
+            for (int i = 0; i < numVertices; i++) {
+                for (int j = 0; j < numVertices; j++) {
+                    if (capacidad[i][j] > 0) {
+                        this.grafo[i][grado[i]++] = j;
+                        this.grafo[j][grado[j]++] = i;
+                    }
                 }
             }
         }
@@ -58,10 +82,42 @@ public class Dinic {
      * @return El flujo máximo posible desde la fuente hasta el sumidero.
      */
     public int flujoMaximo(int fuente, int sumidero) {
+        return flujoMaximo(fuente, sumidero, false);
+    }
+
+    /**
+     * Calcula el flujo máximo entre dos nodos en la red de flujo, permitiendo construir
+     * el grafo de niveles de cada fase con una BFS paralela (ver {@link BfsParalelo}).
+     * En modo paralelo las operaciones de la BFS no se cuentan una a una, ya que los
+     * contadores no son seguros entre hilos. Las redes de capacidad unitaria y los problemas
+     * de emparejamiento bipartito se delegan a {@link FlujoUnitario}.
+     *
+     * @param fuente      El nodo fuente.
+     * @param sumidero    El nodo sumidero.
+     * @param bfsParalela true para construir los niveles con la BFS paralela.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     */
+    public int flujoMaximo(int fuente, int sumidero, boolean bfsParalela) {
+        if (capacidadUnitaria || red.esBipartito(fuente, sumidero)) {
+            comparaciones++;
+            FlujoUnitario motorUnitario = new FlujoUnitario(red);
+            int flujoMaximo = motorUnitario.flujoMaximo(fuente, sumidero);
+            asignaciones += motorUnitario.getAsignaciones();
+            comparaciones += motorUnitario.getComparaciones();
+            certificado = motorUnitario.getCertificado();
+            return flujoMaximo;
+        }
+
         int flujoMaximo = 0;
         asignaciones++;
 
-        while (bfs(fuente, sumidero)) {
+        if (bfsParalela && bfsParalelo == null) {
+            comparaciones++;
+            bfsParalelo = new BfsParalelo(grafo, capacidad, nivel);
+            asignaciones++;
+        }
+
+        while (bfsParalela ? bfsParalelo.calcularNiveles(fuente, sumidero) : bfs(fuente, sumidero)) {
             comparaciones++;
 
             for (int i = 0; i < numVertices; i++) {
@@ -76,19 +132,26 @@ public class Dinic {
             }
         }
 
+        certificado = CertificadoFlujo.desdeResidual(red.getCapacidad(), capacidad, fuente, flujoMaximo);
+        asignaciones++;
+
         return flujoMaximo;
     }
 
     /**
      * Realiza una búsqueda en anchura (BFS) para calcular los niveles de los vértices.
+     * Igual que {@link BfsParalelo}, la búsqueda termina al completar el nivel del sumidero,
+     * ya que los vértices más profundos no forman parte de ningún camino más corto.
      *
      * @param fuente   Nodo fuente del flujo.
      * @param sumidero Nodo sumidero del flujo.
      * @return true si se puede aumentar el flujo, false de lo contrario.
      */
     private boolean bfs(int fuente, int sumidero) {
-        Queue<Integer> cola = new LinkedList<>();
-        asignaciones++;
+        int[] cola = new int[numVertices];
+        int inicio = 0;
+        int fin = 0;
+        asignaciones += 3;
 
         for (int i = 0; i < numVertices; i++) {
             nivel[i] = -1;
@@ -98,21 +161,27 @@ public class Dinic {
         nivel[fuente] = 0;
         asignaciones++;
 
-        cola.add(fuente);
+        cola[fin++] = fuente;
         asignaciones++;
 
-        while (!cola.isEmpty()) {
+        while (inicio < fin) {
             comparaciones++;
-            int u = cola.poll();
+            int u = cola[inicio++];
             asignaciones++;
 
+            // Los vecinos de un vértice del nivel del sumidero quedarían más lejos que él
+            if (nivel[sumidero] != -1 && nivel[u] >= nivel[sumidero]) {
+                comparaciones += 2;
+                break;
+            }
+
             for (int v : grafo[u]) {
                 comparaciones++;
                 if (nivel[v] == -1 && capacidad[u][v] > 0) {
                     comparaciones += 2;
 
                     nivel[v] = nivel[u] + 1;
-                    cola.add(v);
+                    cola[fin++] = v;
                     asignaciones += 3;
                 }
             }
@@ -136,9 +205,9 @@ public class Dinic {
             return flujo;
         }
 
-        for (int i = siguiente[u]; i < grafo[u].size(); i++, siguiente[u]++) {
+        for (int i = siguiente[u]; i < grafo[u].length; i++, siguiente[u]++) {
             comparaciones++;
-            int v = grafo[u].get(i);
+            int v = grafo[u][i];
             comparaciones++;
 
             if (nivel[v] == nivel[u] + 1 && capacidad[u][v] > 0) {
@@ -165,6 +234,16 @@ public class Dinic {
     }
 
 
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
+    }
+
     /**
      * Devuelve el número de asignaciones realizadas durante la ejecución del algoritmo.
      *
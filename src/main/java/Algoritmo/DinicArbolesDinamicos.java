@@ -0,0 +1,554 @@
+package Algoritmo;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Clase que implementa la variante del algoritmo de Dinic con árboles dinámicos (link-cut trees)
+ * de Sleator y Tarjan. El bosque de arcos admisibles del grafo de niveles se mantiene en árboles
+ * dinámicos, de modo que cada aumento y cada corte de un arco saturado cuesta O(log V) amortizado
+ * en lugar de recorrer el camino completo. El flujo de bloqueo de cada fase cuesta O(E log V)
+ * y el algoritmo completo O(V E log V).
+ */
+public class DinicArbolesDinamicos {
+    private static final long INFINITO = Long.MAX_VALUE / 4; // Valor de los vértices que son raíz de su árbol
+
+    private final int numVertices;
+    private final int[][] original;  // Matriz de capacidades del grafo, para el certificado
+    private final int[][] capacidad; // Matriz de capacidades residuales (copia de la del grafo)
+    private final int[][] grafo; // Lista de adyacencia (vecinos en ambas direcciones)
+    private final int[] nivel;
+    private final int[] siguiente;
+
+    // Estado de los árboles dinámicos: cada vértice es un nodo de un árbol splay
+    private final int[] izquierdo;
+    private final int[] derecho;
+    private final int[] padre;      // Padre en el árbol splay o "padre de camino" si el nodo es raíz del splay
+    private final long[] valor;     // Capacidad residual del arco (v, enlazadoA[v])
+    private final long[] minimo;    // Mínimo de valor en el subárbol splay
+    private final long[] pendiente; // Suma perezosa pendiente de propagar a los hijos
+    private final int[] enlazadoA;  // Destino del arco admisible actual de cada vértice, -1 si es raíz
+    private final int[] pila;       // Pila auxiliar para propagar las sumas pendientes en splay
+    private CertificadoFlujo certificado;
+
+    private int asignaciones = 0;
+    private int comparaciones = 0;
+
+    /**
+     * Constructor de la clase DinicArbolesDinamicos.
+     * Copia la matriz de capacidades para no modificar el grafo original y construye
+     * la lista de adyacencia.
+     *
+     * @param grafo Grafo con la matriz de capacidades.
+     */
+    public DinicArbolesDinamicos(Grafo grafo) {
+        this.numVertices = grafo.getCapacidad().length;
+        this.original = grafo.getCapacidad();
+        this.capacidad = new int[numVertices][];
+
+        for (int i = 0; i < numVertices; i++) {
+            this.capacidad[i] = grafo.getCapacidad()[i].clone();
+        }
+
+        // Construir lista de adyacencia a partir de la matriz de capacidades,
+        // contando primero el grado de cada vértice
+        int[] grado = new int[numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (capacidad[i][j] > 0) {
+                    grado[i]++;
+                    grado[j]++;  // Se agrega el arco inverso también
+                }
+            }
+        }
+
+        this.grafo = new int[numVertices][];
+
+        for (int i = 0; i < numVertices; i++) {
+            this.grafo[i] = new int[grado[i]];
+            grado[i] = 0;
+        }
+
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (capacidad[i][j] > 0) {
+                    this.grafo[i][grado[i]++] = j;
+                    this.grafo[j][grado[j]++] = i;
+                }
+            }
+        }
+
+        nivel = new int[numVertices];
+        siguiente = new int[numVertices];
+
+        izquierdo = new int[numVertices];
+        derecho = new int[numVertices];
+        padre = new int[numVertices];
+        valor = new long[numVertices];
+        minimo = new long[numVertices];
+        pendiente = new long[numVertices];
+        enlazadoA = new int[numVertices];
+        pila = new int[numVertices];
+    }
+
+    /**
+     * Calcula el flujo máximo entre dos nodos en la red de flujo.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     */
+    public int flujoMaximo(int fuente, int sumidero) {
+        int flujoMaximo = 0;
+        asignaciones++;
+
+        while (bfs(fuente, sumidero)) {
+            comparaciones++;
+            flujoMaximo += flujoBloqueo(fuente, sumidero);
+            asignaciones++;
+        }
+
+        certificado = CertificadoFlujo.desdeResidual(original, capacidad, fuente, flujoMaximo);
+        asignaciones++;
+
+        return flujoMaximo;
+    }
+
+    /**
+     * Realiza una búsqueda en anchura (BFS) para calcular los niveles de los vértices.
+     *
+     * @param fuente   Nodo fuente del flujo.
+     * @param sumidero Nodo sumidero del flujo.
+     * @return true si se puede aumentar el flujo, false de lo contrario.
+     */
+    private boolean bfs(int fuente, int sumidero) {
+        Queue<Integer> cola = new ArrayDeque<>();
+        asignaciones++;
+
+        for (int i = 0; i < numVertices; i++) {
+            nivel[i] = -1;
+            asignaciones++;
+        }
+
+        nivel[fuente] = 0;
+        cola.add(fuente);
+        asignaciones += 2;
+
+        while (!cola.isEmpty()) {
+            comparaciones++;
+            int u = cola.poll();
+            asignaciones++;
+
+            for (int v : grafo[u]) {
+                comparaciones++;
+                if (nivel[v] == -1 && capacidad[u][v] > 0) {
+                    comparaciones += 2;
+                    nivel[v] = nivel[u] + 1;
+                    cola.add(v);
+                    asignaciones += 2;
+                }
+            }
+        }
+
+        return nivel[sumidero] != -1;
+    }
+
+    /**
+     * Calcula un flujo de bloqueo sobre el grafo de niveles actual. Cada vértice apunta a lo sumo
+     * a un arco admisible (su arco actual); esos arcos forman un bosque cuya raíz, al alcanzar
+     * el sumidero, define un camino de aumento completo.
+     *
+     * @param fuente   Nodo fuente del flujo.
+     * @param sumidero Nodo sumidero del flujo.
+     * @return El flujo enviado en esta fase.
+     */
+    private int flujoBloqueo(int fuente, int sumidero) {
+        for (int i = 0; i < numVertices; i++) {
+            izquierdo[i] = -1;
+            derecho[i] = -1;
+            padre[i] = -1;
+            valor[i] = INFINITO;
+            minimo[i] = INFINITO;
+            pendiente[i] = 0;
+            enlazadoA[i] = -1;
+            siguiente[i] = 0;
+            asignaciones += 8;
+        }
+
+        int flujo = 0;
+        asignaciones++;
+
+        while (true) {
+            int v = encontrarRaiz(fuente);
+            asignaciones++;
+
+            if (v == sumidero) {
+                comparaciones++;
+
+                // Aumentar por el mínimo del camino fuente -> sumidero en O(log V) amortizado
+                acceder(fuente);
+                long flujoCamino = minimo[fuente];
+                aplicar(fuente, -flujoCamino);
+                flujo += (int) flujoCamino;
+                asignaciones += 2;
+
+                System.out.println("\033[31m Camino de aumento | Flujo: \033[0m" + flujoCamino);
+
+                // Cortar todos los arcos que quedaron saturados
+                while (true) {
+                    acceder(fuente);
+                    comparaciones++;
+                    if (minimo[fuente] != 0) {
+                        break;
+                    }
+                    cortarArco(buscarMinimo(fuente));
+                }
+                continue;
+            }
+
+            // Avanzar el arco actual de v hasta encontrar uno admisible
+            boolean enlazado = false;
+            asignaciones++;
+            while (siguiente[v] < grafo[v].length) {
+                comparaciones++;
+                int w = grafo[v][siguiente[v]];
+                asignaciones++;
+
+                if (nivel[w] == nivel[v] + 1 && capacidad[v][w] > 0) {
+                    comparaciones += 2;
+                    enlazar(v, w, capacidad[v][w]);
+                    enlazado = true;
+                    asignaciones++;
+                    break;
+                }
+                siguiente[v]++;
+                asignaciones++;
+            }
+
+            if (enlazado) {
+                comparaciones++;
+                continue;
+            }
+
+            // v no tiene salida: si es la fuente, el flujo ya es de bloqueo
+            if (v == fuente) {
+                comparaciones++;
+                break;
+            }
+
+            // Retirar v del grafo de niveles y cortar los arcos que llegan a él
+            nivel[v] = -1;
+            asignaciones++;
+            for (int u : grafo[v]) {
+                comparaciones++;
+                if (enlazadoA[u] == v) {
+                    comparaciones++;
+                    cortarArco(u);
+                }
+            }
+        }
+
+        // Devolver a la matriz residual los arcos que siguen en el bosque
+        for (int u = 0; u < numVertices; u++) {
+            comparaciones++;
+            if (enlazadoA[u] != -1) {
+                cortarArco(u);
+            }
+        }
+
+        return flujo;
+    }
+
+    /**
+     * Enlaza la raíz v con w mediante el arco (v, w) de capacidad residual dada.
+     *
+     * @param v         Vértice raíz de su árbol.
+     * @param w         Nuevo padre de v en el bosque.
+     * @param residual  Capacidad residual del arco (v, w).
+     */
+    private void enlazar(int v, int w, int residual) {
+        acceder(v);
+        valor[v] = residual;
+        actualizar(v);
+        padre[v] = w;
+        enlazadoA[v] = w;
+        asignaciones += 3;
+    }
+
+    /**
+     * Corta el arco (u, enlazadoA[u]) del bosque y escribe en la matriz residual
+     * el flujo que se envió por él mientras estuvo enlazado.
+     *
+     * @param u Vértice cuyo arco actual se corta.
+     */
+    private void cortarArco(int u) {
+        int w = enlazadoA[u];
+        acceder(u);
+
+        int residual = (int) valor[u];
+        int enviado = capacidad[u][w] - residual;
+        capacidad[u][w] = residual;
+        capacidad[w][u] += enviado;
+
+        int hijo = izquierdo[u];
+        if (hijo != -1) {
+            padre[hijo] = -1;
+        }
+        izquierdo[u] = -1;
+        valor[u] = INFINITO;
+        actualizar(u);
+        enlazadoA[u] = -1;
+        asignaciones += 8;
+    }
+
+    /**
+     * Devuelve la raíz del árbol que contiene a x.
+     *
+     * @param x Vértice a consultar.
+     * @return La raíz de su árbol.
+     */
+    private int encontrarRaiz(int x) {
+        acceder(x);
+        int r = x;
+        bajar(r);
+        while (izquierdo[r] != -1) {
+            comparaciones++;
+            r = izquierdo[r];
+            bajar(r);
+            asignaciones++;
+        }
+        splay(r);
+        return r;
+    }
+
+    /**
+     * Busca, en el camino desde x hasta su raíz, un vértice cuyo valor sea el mínimo del camino.
+     * Debe llamarse justo después de acceder(x).
+     *
+     * @param x Vértice que se acaba de acceder.
+     * @return Vértice con valor mínimo.
+     */
+    private int buscarMinimo(int x) {
+        long objetivo = minimo[x];
+        int actual = x;
+        while (true) {
+            bajar(actual);
+            int izq = izquierdo[actual];
+            comparaciones++;
+            if (izq != -1 && minimo[izq] == objetivo) {
+                actual = izq;
+            } else if (valor[actual] == objetivo) {
+                comparaciones++;
+                break;
+            } else {
+                actual = derecho[actual];
+            }
+            asignaciones++;
+        }
+        splay(actual);
+        return actual;
+    }
+
+    /**
+     * Hace que el camino desde la raíz del árbol hasta x sea el camino preferido y deja a x
+     * como raíz de su árbol splay, sin hijo derecho.
+     *
+     * @param x Vértice a acceder.
+     */
+    private void acceder(int x) {
+        int ultimo = -1;
+        for (int y = x; y != -1; y = padre[y]) {
+            splay(y);
+            derecho[y] = ultimo;
+            actualizar(y);
+            ultimo = y;
+            asignaciones += 2;
+        }
+        splay(x);
+    }
+
+    /**
+     * Indica si x es la raíz de su árbol splay, es decir, si su padre no existe o es solo
+     * su "padre de camino".
+     *
+     * @param x Vértice a consultar.
+     * @return true si x es raíz de su árbol splay, false de lo contrario.
+     */
+    private boolean esRaizSplay(int x) {
+        int p = padre[x];
+        asignaciones++;
+        comparaciones += 3;
+        return p == -1 || (izquierdo[p] != x && derecho[p] != x);
+    }
+
+    /**
+     * Lleva x a la raíz de su árbol splay mediante rotaciones, propagando antes las sumas
+     * pendientes desde la raíz hasta x.
+     *
+     * @param x Vértice a subir.
+     */
+    private void splay(int x) {
+        // Propagar las sumas pendientes desde la raíz del splay hasta x
+        int tope = 0;
+        int y = x;
+        pila[tope++] = y;
+        asignaciones += 3;
+        while (!esRaizSplay(y)) {
+            y = padre[y];
+            pila[tope++] = y;
+            asignaciones += 2;
+        }
+        while (tope > 0) {
+            comparaciones++;
+            bajar(pila[--tope]);
+            asignaciones++;
+        }
+        comparaciones++;
+
+        while (!esRaizSplay(x)) {
+            int p = padre[x];
+            asignaciones++;
+            if (!esRaizSplay(p)) {
+                int g = padre[p];
+                boolean zigZig = (izquierdo[g] == p) == (izquierdo[p] == x);
+                comparaciones += 3;
+                asignaciones += 2;
+                rotar(zigZig ? p : x);
+            }
+            rotar(x);
+        }
+    }
+
+    /**
+     * Rota x sobre su padre en el árbol splay, conservando el orden del camino.
+     *
+     * @param x Vértice a rotar.
+     */
+    private void rotar(int x) {
+        int p = padre[x];
+        int g = padre[p];
+        asignaciones += 2;
+
+        if (!esRaizSplay(p)) {
+            comparaciones++;
+            if (izquierdo[g] == p) {
+                izquierdo[g] = x;
+            } else {
+                derecho[g] = x;
+            }
+            asignaciones++;
+        }
+        padre[x] = g;
+        asignaciones++;
+
+        comparaciones++;
+        if (izquierdo[p] == x) {
+            izquierdo[p] = derecho[x];
+            comparaciones++;
+            if (derecho[x] != -1) {
+                padre[derecho[x]] = p;
+                asignaciones++;
+            }
+            derecho[x] = p;
+        } else {
+            derecho[p] = izquierdo[x];
+            comparaciones++;
+            if (izquierdo[x] != -1) {
+                padre[izquierdo[x]] = p;
+                asignaciones++;
+            }
+            izquierdo[x] = p;
+        }
+        padre[p] = x;
+        asignaciones += 3;
+
+        actualizar(p);
+        actualizar(x);
+    }
+
+    /**
+     * Recalcula el mínimo del subárbol splay de x a partir de su valor y de sus hijos.
+     *
+     * @param x Vértice a actualizar.
+     */
+    private void actualizar(int x) {
+        long m = valor[x];
+        asignaciones++;
+        comparaciones++;
+        if (izquierdo[x] != -1) {
+            m = Math.min(m, minimo[izquierdo[x]]);
+            comparaciones++;
+            asignaciones++;
+        }
+        comparaciones++;
+        if (derecho[x] != -1) {
+            m = Math.min(m, minimo[derecho[x]]);
+            comparaciones++;
+            asignaciones++;
+        }
+        minimo[x] = m;
+        asignaciones++;
+    }
+
+    /**
+     * Suma delta a todo el subárbol splay de x, dejando la suma pendiente para sus hijos.
+     *
+     * @param x     Raíz del subárbol.
+     * @param delta Cantidad a sumar.
+     */
+    private void aplicar(int x, long delta) {
+        valor[x] += delta;
+        minimo[x] += delta;
+        pendiente[x] += delta;
+        asignaciones += 3;
+    }
+
+    /**
+     * Propaga a los hijos de x la suma pendiente de x.
+     *
+     * @param x Vértice cuya suma pendiente se propaga.
+     */
+    private void bajar(int x) {
+        comparaciones++;
+        if (pendiente[x] != 0) {
+            comparaciones++;
+            if (izquierdo[x] != -1) {
+                aplicar(izquierdo[x], pendiente[x]);
+            }
+            comparaciones++;
+            if (derecho[x] != -1) {
+                aplicar(derecho[x], pendiente[x]);
+            }
+            pendiente[x] = 0;
+            asignaciones++;
+        }
+    }
+
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
+    }
+
+    /**
+     * Devuelve el número de asignaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de asignaciones.
+     */
+    public int getAsignaciones() {
+        return asignaciones;
+    }
+
+    /**
+     * Devuelve el número de comparaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de comparaciones.
+     */
+    public int getComparaciones() {
+        return comparaciones;
+    }
+}
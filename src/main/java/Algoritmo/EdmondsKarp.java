@@ -13,6 +13,8 @@ public class EdmondsKarp {
     private final int[][] capacidad; // Matriz de capacidad de la red de flujo
     private int asignaciones = 0; // Contador de asignaciones realizadas durante el algoritmo
     private int comparaciones = 0; // Contador de comparaciones realizadas durante el algoritmo
+    private CertificadoFlujo certificado; // Flujo por arista y corte mínimo del último cálculo
+    private int busquedas = 0; // Contador de búsquedas en anchura (BFS) realizadas
 
     /**
      * Constructor de la clase EdmondsKarp.
@@ -33,6 +35,21 @@ public class EdmondsKarp {
      * @return El flujo máximo posible desde la fuente hasta el sumidero.
      */
     public int flujoMaximo(int fuente, int sumidero) {
+        return flujoMaximo(fuente, sumidero, false);
+    }
+
+    /**
+     * Calcula el flujo máximo entre dos nodos en la red de flujo. Con aumento múltiple, cada BFS
+     * calcula las distancias desde la fuente y se aumenta por todos los caminos más cortos
+     * disjuntos en vértices que admita el grafo residual antes de volver a buscar, en lugar de
+     * descartar la BFS después de un solo camino.
+     *
+     * @param fuente           El nodo fuente.
+     * @param sumidero         El nodo sumidero.
+     * @param multiplesCaminos true para aumentar por varios caminos en cada BFS.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     */
+    public int flujoMaximo(int fuente, int sumidero, boolean multiplesCaminos) {
         int[][] flujoResidual = new int[numVertices][];
         asignaciones++;
 
@@ -44,44 +61,74 @@ public class EdmondsKarp {
         comparaciones++;
 
         int[] padres = new int[numVertices];
-        asignaciones++;
+        int[] distancia = new int[numVertices];
+        asignaciones += 2;
 
         int flujoMaximo = 0;
         asignaciones++;
 
-        while (bfs(flujoResidual, fuente, sumidero, padres)) {
+        while (multiplesCaminos
+                ? bfsDistancias(flujoResidual, fuente, sumidero, distancia)
+                : bfs(flujoResidual, fuente, sumidero, padres)) {
             comparaciones++;
+            if (multiplesCaminos) {
+                // Aumentar por caminos más cortos disjuntos en vértices con la misma BFS
+                boolean[] bloqueado = new boolean[numVertices];
+                asignaciones++;
 
-            int flujoCamino = Integer.MAX_VALUE;
-            asignaciones++;
-
-            // Encontrar el flujo mínimo en el camino encontrado
-            for (int v = sumidero; v != fuente; v = padres[v]) {
-                comparaciones++;
-                int u = padres[v];
-                flujoCamino = Math.min(flujoCamino, flujoResidual[u][v]);
-                asignaciones += 2;
+                while (dfsCamino(flujoResidual, fuente, sumidero, distancia, bloqueado, padres)) {
+                    comparaciones++;
+                    flujoMaximo += aumentarCamino(flujoResidual, fuente, sumidero, padres);
+                    asignaciones++;
+                }
+            } else {
+                flujoMaximo += aumentarCamino(flujoResidual, fuente, sumidero, padres);
+                asignaciones++;
             }
-            comparaciones++;
+        }
+        comparaciones++;
 
-            // Actualizar el flujo residual y mostrar la ruta
-            System.out.print("\033[31m Ruta encontrada: " + fuente);
-            for (int v = sumidero; v != fuente; v = padres[v]) {
-                comparaciones++;
-                int u = padres[v];
-                flujoResidual[u][v] -= flujoCamino;
-                flujoResidual[v][u] += flujoCamino;
-                asignaciones += 3;
-                System.out.print(" -> " + v);
-            }
-            System.out.println(" | Flujo del camino: \033[0m" + flujoCamino);
+        certificado = CertificadoFlujo.desdeResidual(capacidad, flujoResidual, fuente, flujoMaximo);
+        asignaciones++;
 
-            flujoMaximo += flujoCamino;
-            asignaciones++;
+        return flujoMaximo;
+    }
+
+    /**
+     * Aumenta el flujo por el camino guardado en padres y muestra la ruta.
+     *
+     * @param flujoResidual La matriz de flujo residual.
+     * @param fuente        El nodo fuente.
+     * @param sumidero      El nodo sumidero.
+     * @param padres        Array con el camino encontrado.
+     * @return El flujo enviado por el camino.
+     */
+    private int aumentarCamino(int[][] flujoResidual, int fuente, int sumidero, int[] padres) {
+        int flujoCamino = Integer.MAX_VALUE;
+        asignaciones++;
+
+        // Encontrar el flujo mínimo en el camino encontrado
+        for (int v = sumidero; v != fuente; v = padres[v]) {
+            comparaciones++;
+            int u = padres[v];
+            flujoCamino = Math.min(flujoCamino, flujoResidual[u][v]);
+            asignaciones += 2;
         }
         comparaciones++;
 
-        return flujoMaximo;
+        // Actualizar el flujo residual y mostrar la ruta
+        System.out.print("\033[31m Ruta encontrada: " + fuente);
+        for (int v = sumidero; v != fuente; v = padres[v]) {
+            comparaciones++;
+            int u = padres[v];
+            flujoResidual[u][v] -= flujoCamino;
+            flujoResidual[v][u] += flujoCamino;
+            asignaciones += 3;
+            System.out.print(" -> " + v);
+        }
+        System.out.println(" | Flujo del camino: \033[0m" + flujoCamino);
+
+        return flujoCamino;
     }
 
 
@@ -96,6 +143,9 @@ public class EdmondsKarp {
      * @return true si se encontró un camino de aumento, false en caso contrario.
      */
     private boolean bfs(int[][] flujoResidual, int fuente, int sumidero, int[] padres) {
+        busquedas++;
+        asignaciones++;
+
         boolean[] visitado = new boolean[numVertices];  // Array para marcar los nodos visitados
         asignaciones++;
         Queue<Integer> cola = new LinkedList<>(); // Cola para almacenar nodos a explorar
@@ -135,6 +185,114 @@ public class EdmondsKarp {
         return false; // No se encontró un camino
     }
 
+    /**
+     * Realiza una búsqueda en anchura (BFS) que calcula la distancia de cada vértice a la fuente
+     * en el grafo residual. Se detiene al alcanzar el sumidero, ya que para entonces todos los
+     * vértices más cercanos ya tienen su distancia.
+     *
+     * @param flujoResidual La matriz de flujo residual.
+     * @param fuente        El nodo fuente.
+     * @param sumidero      El nodo sumidero.
+     * @param distancia     Array para almacenar las distancias, -1 si el vértice no se alcanzó.
+     * @return true si se alcanzó el sumidero, false en caso contrario.
+     */
+    private boolean bfsDistancias(int[][] flujoResidual, int fuente, int sumidero, int[] distancia) {
+        busquedas++;
+        asignaciones++;
+
+        Queue<Integer> cola = new LinkedList<>(); // Cola para almacenar nodos a explorar
+        asignaciones++;
+
+        for (int v = 0; v < numVertices; v++) {
+            comparaciones++;
+            distancia[v] = -1;
+            asignaciones++;
+        }
+
+        cola.add(fuente);
+        distancia[fuente] = 0;
+        asignaciones += 2;
+
+        while (!cola.isEmpty()) {
+            comparaciones++;
+            int u = cola.poll();
+            asignaciones++;
+
+            for (int v = 0; v < numVertices; v++) {
+                comparaciones++;
+                if (distancia[v] == -1 && flujoResidual[u][v] > 0) {
+                    comparaciones += 2;
+                    distancia[v] = distancia[u] + 1;
+                    asignaciones++;
+                    if (v == sumidero) {
+                        comparaciones++;
+                        return true;
+                    }
+                    cola.add(v);
+                    asignaciones++;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca en profundidad un camino más corto de la fuente al sumidero que no pase por vértices
+     * bloqueados. Cada vértice visitado se bloquea: si queda en el camino, los siguientes caminos
+     * de la misma BFS deben evitarlo, y si no llegó al sumidero, ya no sirve en esta BFS.
+     *
+     * @param flujoResidual La matriz de flujo residual.
+     * @param u             Vértice actual.
+     * @param sumidero      El nodo sumidero.
+     * @param distancia     Distancias calculadas por la BFS.
+     * @param bloqueado     Vértices ya usados o sin salida.
+     * @param padres        Array para almacenar el camino encontrado.
+     * @return true si se encontró un camino, false en caso contrario.
+     */
+    private boolean dfsCamino(int[][] flujoResidual, int u, int sumidero, int[] distancia, boolean[] bloqueado, int[] padres) {
+        for (int v = 0; v < numVertices; v++) {
+            comparaciones++;
+            if (!bloqueado[v] && distancia[v] == distancia[u] + 1 && flujoResidual[u][v] > 0) {
+                comparaciones += 3;
+                padres[v] = u;
+                asignaciones++;
+
+                if (v == sumidero) {
+                    comparaciones++;
+                    return true;
+                }
+
+                bloqueado[v] = true;
+                asignaciones++;
+
+                if (dfsCamino(flujoResidual, v, sumidero, distancia, bloqueado, padres)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
+    }
+
+    /**
+     * Devuelve el número de búsquedas en anchura (BFS) realizadas durante la ejecución del algoritmo,
+     * incluida la última, que ya no encuentra camino de aumento.
+     *
+     * @return El número de búsquedas.
+     */
+    public int getBusquedas() {
+        return busquedas;
+    }
+
     /**
      * Devuelve el número de asignaciones realizadas durante la ejecución del algoritmo.
      *
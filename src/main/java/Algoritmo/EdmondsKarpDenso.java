@@ -0,0 +1,203 @@
+package Algoritmo;
+
+/**
+ * Clase que implementa el algoritmo de Edmonds-Karp para grafos densos. Además de la matriz de
+ * flujo residual, cada fila guarda un conjunto de bits con los arcos de residual positivo, que se
+ * actualiza al aumentar por cada camino. Así la BFS calcula "no visitado y con capacidad" de 64
+ * vértices a la vez con operaciones sobre palabras en lugar de revisar la matriz entero por entero.
+ */
+public class EdmondsKarpDenso {
+    private final int numVertices; // Número de vértices en el grafo
+    private final int[][] capacidad; // Matriz de capacidad de la red de flujo
+    private final int palabras; // Número de palabras de 64 bits por fila
+    private int asignaciones = 0; // Contador de asignaciones realizadas durante el algoritmo
+    private int comparaciones = 0; // Contador de comparaciones realizadas durante el algoritmo
+    private CertificadoFlujo certificado; // Flujo por arista y corte mínimo del último cálculo
+
+    /**
+     * Constructor de la clase EdmondsKarpDenso.
+     * Inicializa el número de vértices y la matriz de capacidades del grafo.
+     *
+     * @param grafo Grafo con la matriz de capacidades.
+     */
+    public EdmondsKarpDenso(Grafo grafo) {
+        this.numVertices = grafo.getCapacidad().length;
+        this.capacidad = grafo.getCapacidad();
+        this.palabras = (numVertices + 63) >>> 6;
+    }
+
+    /**
+     * Calcula el flujo máximo entre dos nodos en la red de flujo.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     */
+    public int flujoMaximo(int fuente, int sumidero) {
+        int[][] flujoResidual = new int[numVertices][];
+        long[][] conResidual = new long[numVertices][palabras]; // Bit v de la fila u: flujoResidual[u][v] > 0
+        asignaciones += 2;
+
+        for (int u = 0; u < numVertices; u++) {
+            comparaciones++;
+            flujoResidual[u] = capacidad[u].clone();
+            asignaciones++;
+
+            for (int v = 0; v < numVertices; v++) {
+                comparaciones++;
+                if (flujoResidual[u][v] > 0) {
+                    conResidual[u][v >>> 6] |= 1L << v;
+                    asignaciones++;
+                }
+            }
+        }
+        comparaciones++;
+
+        int[] padres = new int[numVertices];
+        asignaciones++;
+
+        int flujoMaximo = 0;
+        asignaciones++;
+
+        while (bfs(conResidual, fuente, sumidero, padres)) {
+            comparaciones++;
+
+            int flujoCamino = Integer.MAX_VALUE;
+            asignaciones++;
+
+            // Encontrar el flujo mínimo en el camino encontrado
+            for (int v = sumidero; v != fuente; v = padres[v]) {
+                comparaciones++;
+                int u = padres[v];
+                flujoCamino = Math.min(flujoCamino, flujoResidual[u][v]);
+                asignaciones += 2;
+            }
+            comparaciones++;
+
+            // Actualizar el flujo residual y sus bits, y mostrar la ruta
+            System.out.print("\033[31m Ruta encontrada: " + fuente);
+            for (int v = sumidero; v != fuente; v = padres[v]) {
+                comparaciones++;
+                int u = padres[v];
+                flujoResidual[u][v] -= flujoCamino;
+                flujoResidual[v][u] += flujoCamino;
+                asignaciones += 3;
+
+                if (flujoResidual[u][v] == 0) {
+                    comparaciones++;
+                    conResidual[u][v >>> 6] &= ~(1L << v);
+                    asignaciones++;
+                }
+                conResidual[v][u >>> 6] |= 1L << u;
+                asignaciones++;
+
+                System.out.print(" -> " + v);
+            }
+            System.out.println(" | Flujo del camino: \033[0m" + flujoCamino);
+
+            flujoMaximo += flujoCamino;
+            asignaciones++;
+        }
+        comparaciones++;
+
+        certificado = CertificadoFlujo.desdeResidual(capacidad, flujoResidual, fuente, flujoMaximo);
+        asignaciones++;
+
+        return flujoMaximo;
+    }
+
+    /**
+     * Realiza una búsqueda en anchura (BFS) para encontrar un camino de aumento. Para cada vértice
+     * extraído de la cola se combinan, palabra por palabra, sus arcos con residual positivo y los
+     * vértices aún no visitados, y solo se recorren los bits resultantes.
+     *
+     * @param conResidual Conjuntos de bits de arcos con residual positivo por fila.
+     * @param fuente      El nodo fuente.
+     * @param sumidero    El nodo sumidero.
+     * @param padres      Array para almacenar el camino encontrado.
+     * @return true si se encontró un camino de aumento, false en caso contrario.
+     */
+    private boolean bfs(long[][] conResidual, int fuente, int sumidero, int[] padres) {
+        long[] noVisitado = new long[palabras]; // Bit v encendido si v aún no ha sido visitado
+        int[] cola = new int[numVertices];
+        int inicio = 0;
+        int fin = 0;
+        asignaciones += 4;
+
+        for (int w = 0; w < palabras; w++) {
+            noVisitado[w] = -1L;
+            asignaciones++;
+        }
+        if ((numVertices & 63) != 0) {
+            noVisitado[palabras - 1] = (1L << numVertices) - 1; // Apagar los bits sobrantes de la última palabra
+        }
+
+        cola[fin++] = fuente;
+        noVisitado[fuente >>> 6] &= ~(1L << fuente);
+        padres[fuente] = -1; // Inicializar padre del nodo fuente
+        asignaciones += 3;
+
+        while (inicio < fin) {
+            comparaciones++;
+            int u = cola[inicio++]; // Obtener y eliminar el nodo del frente de la cola
+            long[] fila = conResidual[u];
+            asignaciones += 2;
+
+            for (int w = 0; w < palabras; w++) {
+                comparaciones++;
+                long candidatos = fila[w] & noVisitado[w];
+                asignaciones++;
+
+                if (candidatos == 0) {
+                    comparaciones++;
+                    continue;
+                }
+                noVisitado[w] &= ~candidatos; // Marcar todos los candidatos de la palabra como visitados
+
+                while (candidatos != 0) {
+                    comparaciones++;
+                    int v = (w << 6) + Long.numberOfTrailingZeros(candidatos);
+                    padres[v] = u;  // Establecer el padre del nodo
+                    asignaciones += 2;
+
+                    if (v == sumidero) { // Si llegamos al nodo sumidero
+                        comparaciones++;
+                        return true; // Camino encontrado
+                    }
+                    cola[fin++] = v; // Agregar el nodo a la cola
+                    candidatos &= candidatos - 1;
+                    asignaciones += 2;
+                }
+            }
+        }
+        return false; // No se encontró un camino
+    }
+
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
+    }
+
+    /**
+     * Devuelve el número de asignaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de asignaciones.
+     */
+    public int getAsignaciones() {
+        return asignaciones;
+    }
+
+    /**
+     * Devuelve el número de comparaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de comparaciones.
+     */
+    public int getComparaciones() {
+        return comparaciones;
+    }
+}
@@ -0,0 +1,452 @@
+package Algoritmo;
+
+import java.util.Arrays;
+
+/**
+ * Clase que calcula el flujo máximo en redes de capacidad unitaria y en problemas de
+ * emparejamiento bipartito. Si el grafo es bipartito respecto a la fuente y el sumidero se usa
+ * Hopcroft-Karp, en O(E √V); si no, se usa Dinic para capacidad unitaria, en O(E √E).
+ * En Dinic unitario el estado residual se guarda en conjuntos de bits por fila en lugar de
+ * una matriz de enteros, y en Hopcroft-Karp basta con los arreglos del emparejamiento.
+ */
+public class FlujoUnitario {
+    private final Grafo grafo;
+    private final int numVertices;
+    private final int[][] capacidad;
+    private final int palabras; // Número de palabras de 64 bits por fila
+
+    // Estado residual de Dinic unitario: residual(u, v) = directo(u, v) + inverso(u, v)
+    private long[][] directo; // Bit v de la fila u: el arco original (u, v) aún no lleva flujo
+    private long[][] inverso; // Bit v de la fila u: el arco original (v, u) lleva flujo que se puede cancelar
+    private int[] nivel;
+    private int[] siguiente;  // Arco actual de cada vértice (próximo bit a revisar)
+
+    // Estado de Hopcroft-Karp, indexado por número de vértice
+    private int[][] vecinos;       // Vértices derechos adyacentes a cada vértice izquierdo
+    private int[] parejaIzquierda; // Vértice derecho emparejado con cada vértice izquierdo, -1 si está libre
+    private int[] parejaDerecha;   // Vértice izquierdo emparejado con cada vértice derecho, -1 si está libre
+    private int[] distancia;
+    private int distanciaLibre;    // Distancia de la primera capa que llega a un vértice derecho libre
+
+    private CertificadoFlujo certificado;
+
+    private int asignaciones = 0;
+    private int comparaciones = 0;
+
+    /**
+     * Constructor de la clase FlujoUnitario.
+     *
+     * @param grafo Grafo con la matriz de capacidades.
+     */
+    public FlujoUnitario(Grafo grafo) {
+        this.grafo = grafo;
+        this.numVertices = grafo.getCapacidad().length;
+        this.capacidad = grafo.getCapacidad();
+        this.palabras = (numVertices + 63) >>> 6;
+    }
+
+    /**
+     * Calcula el flujo máximo entre dos nodos en la red de flujo.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     * @throws IllegalArgumentException si la red no es bipartita ni de capacidad unitaria.
+     */
+    public int flujoMaximo(int fuente, int sumidero) {
+        if (grafo.esBipartito(fuente, sumidero)) {
+            comparaciones++;
+            return hopcroftKarp(fuente, sumidero);
+        }
+
+        if (!grafo.esCapacidadUnitaria()) {
+            comparaciones++;
+            throw new IllegalArgumentException("La red no es bipartita ni de capacidad unitaria.");
+        }
+
+        return dinicUnitario(fuente, sumidero);
+    }
+
+    /**
+     * Calcula el emparejamiento máximo con Hopcroft-Karp. Los vértices izquierdos son los
+     * vecinos de la fuente y los derechos los vecinos de los izquierdos.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return El tamaño del emparejamiento máximo, igual al flujo máximo.
+     */
+    private int hopcroftKarp(int fuente, int sumidero) {
+        int[] izquierdos = new int[numVertices];
+        int cantidadIzquierdos = 0;
+        vecinos = new int[numVertices][];
+        asignaciones += 2;
+
+        for (int u = 0; u < numVertices; u++) {
+            comparaciones++;
+            if (capacidad[fuente][u] > 0) {
+                izquierdos[cantidadIzquierdos++] = u;
+                int[] fila = new int[numVertices];
+                int grado = 0;
+                for (int v = 0; v < numVertices; v++) {
+                    comparaciones++;
+                    // Los vértices derechos sin arista al sumidero no pueden emparejarse
+                    if (capacidad[u][v] > 0 && capacidad[v][sumidero] > 0) {
+                        fila[grado++] = v;
+                        asignaciones++;
+                    }
+                }
+                vecinos[u] = Arrays.copyOf(fila, grado);
+                asignaciones += 2;
+            }
+        }
+
+        parejaIzquierda = new int[numVertices];
+        parejaDerecha = new int[numVertices];
+        distancia = new int[numVertices];
+        siguiente = new int[numVertices];
+        Arrays.fill(parejaIzquierda, -1);
+        Arrays.fill(parejaDerecha, -1);
+        asignaciones += 4 + 2 * numVertices;
+
+        int emparejamiento = 0;
+        asignaciones++;
+
+        while (bfsEmparejamiento(izquierdos, cantidadIzquierdos)) {
+            comparaciones++;
+            // Reiniciar el arco actual de todos antes de la fase: un DFS puede entrar a un
+            // vértice emparejado que aparece más adelante en la lista
+            for (int i = 0; i < cantidadIzquierdos; i++) {
+                comparaciones++;
+                siguiente[izquierdos[i]] = 0;
+                asignaciones++;
+            }
+
+            for (int i = 0; i < cantidadIzquierdos; i++) {
+                comparaciones++;
+                int u = izquierdos[i];
+                asignaciones++;
+                if (parejaIzquierda[u] == -1 && dfsEmparejamiento(u)) {
+                    comparaciones += 2;
+                    emparejamiento++;
+                    asignaciones++;
+                }
+            }
+        }
+
+        for (int i = 0; i < cantidadIzquierdos; i++) {
+            int u = izquierdos[i];
+            if (parejaIzquierda[u] != -1) {
+                System.out.println("\033[31m Ruta: " + fuente + " -> " + u + " -> " + parejaIzquierda[u]
+                        + " -> " + sumidero + " | Flujo: \033[0m" + 1);
+            }
+        }
+
+        // Residual del emparejamiento: cada pareja satura fuente -> u -> v -> sumidero
+        int[][] residual = new int[numVertices][];
+        for (int u = 0; u < numVertices; u++) {
+            residual[u] = capacidad[u].clone();
+        }
+        for (int i = 0; i < cantidadIzquierdos; i++) {
+            int u = izquierdos[i];
+            int v = parejaIzquierda[u];
+            if (v != -1) {
+                residual[fuente][u]--;
+                residual[u][fuente]++;
+                residual[u][v]--;
+                residual[v][u]++;
+                residual[v][sumidero]--;
+                residual[sumidero][v]++;
+            }
+        }
+        certificado = CertificadoFlujo.desdeResidual(capacidad, residual, fuente, emparejamiento);
+        asignaciones++;
+
+        return emparejamiento;
+    }
+
+    /**
+     * Calcula por capas la distancia alterna desde los vértices izquierdos libres. La búsqueda
+     * no expande más allá de la primera capa que alcanza un vértice derecho libre, de modo que
+     * cada fase solo aumenta por caminos de longitud mínima.
+     *
+     * @param izquierdos         Vértices del lado izquierdo.
+     * @param cantidadIzquierdos Cantidad de vértices izquierdos.
+     * @return true si existe algún camino de aumento, false de lo contrario.
+     */
+    private boolean bfsEmparejamiento(int[] izquierdos, int cantidadIzquierdos) {
+        int[] cola = new int[cantidadIzquierdos];
+        int inicio = 0;
+        int fin = 0;
+        asignaciones += 3;
+
+        for (int i = 0; i < cantidadIzquierdos; i++) {
+            comparaciones++;
+            int u = izquierdos[i];
+            if (parejaIzquierda[u] == -1) {
+                distancia[u] = 0;
+                cola[fin++] = u;
+            } else {
+                distancia[u] = Integer.MAX_VALUE;
+            }
+            asignaciones += 2;
+        }
+
+        distanciaLibre = Integer.MAX_VALUE;
+        asignaciones++;
+
+        while (inicio < fin) {
+            comparaciones++;
+            int u = cola[inicio++];
+            asignaciones++;
+
+            // La cola avanza por capas: las siguientes solo darían caminos más largos
+            if (distancia[u] >= distanciaLibre) {
+                comparaciones++;
+                break;
+            }
+
+            for (int v : vecinos[u]) {
+                comparaciones++;
+                int w = parejaDerecha[v];
+                asignaciones++;
+
+                if (w == -1) {
+                    if (distanciaLibre == Integer.MAX_VALUE) {
+                        comparaciones++;
+                        distanciaLibre = distancia[u];
+                        asignaciones++;
+                    }
+                } else if (distancia[w] == Integer.MAX_VALUE) {
+                    comparaciones++;
+                    distancia[w] = distancia[u] + 1;
+                    cola[fin++] = w;
+                    asignaciones += 2;
+                }
+                comparaciones++;
+            }
+        }
+
+        return distanciaLibre != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Busca un camino alterno de aumento desde el vértice izquierdo u respetando las distancias.
+     * Un vértice derecho libre solo cierra el camino desde la capa calculada por la BFS.
+     *
+     * @param u Vértice izquierdo actual.
+     * @return true si se aumentó el emparejamiento, false de lo contrario.
+     */
+    private boolean dfsEmparejamiento(int u) {
+        for (; siguiente[u] < vecinos[u].length; siguiente[u]++) {
+            comparaciones++;
+            int v = vecinos[u][siguiente[u]];
+            int w = parejaDerecha[v];
+            asignaciones += 2;
+
+            if (w == -1 ? distancia[u] == distanciaLibre
+                    : distancia[w] == distancia[u] + 1 && dfsEmparejamiento(w)) {
+                comparaciones += 2;
+                parejaIzquierda[u] = v;
+                parejaDerecha[v] = u;
+                asignaciones += 2;
+                return true;
+            }
+        }
+
+        distancia[u] = Integer.MAX_VALUE; // Vértice sin salida en esta fase
+        asignaciones++;
+        return false;
+    }
+
+    /**
+     * Calcula el flujo máximo con Dinic sobre el residual en conjuntos de bits. En una red de
+     * capacidad unitaria cada camino de aumento lleva exactamente una unidad de flujo.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return El flujo máximo posible desde la fuente hasta el sumidero.
+     */
+    private int dinicUnitario(int fuente, int sumidero) {
+        directo = new long[numVertices][palabras];
+        inverso = new long[numVertices][palabras];
+        nivel = new int[numVertices];
+        siguiente = new int[numVertices];
+        asignaciones += 4;
+
+        for (int u = 0; u < numVertices; u++) {
+            for (int v = 0; v < numVertices; v++) {
+                comparaciones++;
+                if (capacidad[u][v] > 0) {
+                    directo[u][v >>> 6] |= 1L << v;
+                    asignaciones++;
+                }
+            }
+        }
+
+        int flujoMaximo = 0;
+        asignaciones++;
+
+        while (bfsUnitario(fuente, sumidero)) {
+            comparaciones++;
+            Arrays.fill(siguiente, 0);
+            asignaciones += numVertices;
+
+            while (dfsUnitario(fuente, sumidero)) {
+                flujoMaximo++;
+                asignaciones++;
+            }
+        }
+
+        // Expandir el residual en bits a una matriz para el certificado
+        int[][] residual = new int[numVertices][numVertices];
+        for (int u = 0; u < numVertices; u++) {
+            for (int v = 0; v < numVertices; v++) {
+                residual[u][v] = (int) ((directo[u][v >>> 6] >>> v) & 1) + (int) ((inverso[u][v >>> 6] >>> v) & 1);
+            }
+        }
+        certificado = CertificadoFlujo.desdeResidual(capacidad, residual, fuente, flujoMaximo);
+        asignaciones++;
+
+        return flujoMaximo;
+    }
+
+    /**
+     * Calcula los niveles con una BFS que toma, palabra por palabra, los vecinos con
+     * residual positivo que aún no han sido visitados.
+     *
+     * @param fuente   Nodo fuente del flujo.
+     * @param sumidero Nodo sumidero del flujo.
+     * @return true si se puede aumentar el flujo, false de lo contrario.
+     */
+    private boolean bfsUnitario(int fuente, int sumidero) {
+        long[] visitado = new long[palabras];
+        int[] cola = new int[numVertices];
+        int inicio = 0;
+        int fin = 0;
+        Arrays.fill(nivel, -1);
+        asignaciones += 4 + numVertices;
+
+        nivel[fuente] = 0;
+        visitado[fuente >>> 6] |= 1L << fuente;
+        cola[fin++] = fuente;
+        asignaciones += 3;
+
+        while (inicio < fin) {
+            comparaciones++;
+            int u = cola[inicio++];
+            asignaciones++;
+
+            for (int w = 0; w < palabras; w++) {
+                comparaciones++;
+                long candidatos = (directo[u][w] | inverso[u][w]) & ~visitado[w];
+                asignaciones++;
+
+                while (candidatos != 0) {
+                    comparaciones++;
+                    int v = (w << 6) + Long.numberOfTrailingZeros(candidatos);
+                    visitado[w] |= candidatos & -candidatos;
+                    nivel[v] = nivel[u] + 1;
+                    cola[fin++] = v;
+                    candidatos &= candidatos - 1;
+                    asignaciones += 5;
+                }
+            }
+        }
+
+        return nivel[sumidero] != -1;
+    }
+
+    /**
+     * Busca en profundidad un camino de aumento en el grafo de niveles, avanzando el arco
+     * actual de cada vértice por bits del residual.
+     *
+     * @param u        Vértice actual.
+     * @param sumidero Nodo sumidero del flujo.
+     * @return true si se envió una unidad de flujo, false de lo contrario.
+     */
+    private boolean dfsUnitario(int u, int sumidero) {
+        comparaciones++;
+        if (u == sumidero) {
+            return true;
+        }
+
+        while (siguiente[u] < numVertices) {
+            comparaciones++;
+            int w = siguiente[u] >>> 6;
+            long residual = (directo[u][w] | inverso[u][w]) & (-1L << siguiente[u]);
+            asignaciones += 2;
+
+            if (residual == 0) {
+                comparaciones++;
+                siguiente[u] = (w + 1) << 6;
+                asignaciones++;
+                continue;
+            }
+
+            int v = (w << 6) + Long.numberOfTrailingZeros(residual);
+            siguiente[u] = v;
+            asignaciones += 2;
+
+            if (nivel[v] == nivel[u] + 1 && dfsUnitario(v, sumidero)) {
+                comparaciones += 2;
+                empujar(u, v);
+                System.out.println("\033[31m Ruta: " + u + " -> " + v + " | Flujo: \033[0m" + 1);
+                return true;
+            }
+            siguiente[u]++;
+            asignaciones++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Envía una unidad de flujo por el arco residual (u, v), cancelando primero flujo del
+     * arco original (v, u) si lo hay.
+     *
+     * @param u Origen del arco residual.
+     * @param v Destino del arco residual.
+     */
+    private void empujar(int u, int v) {
+        long bitV = 1L << v;
+        long bitU = 1L << u;
+
+        if ((inverso[u][v >>> 6] & bitV) != 0) {
+            comparaciones++;
+            inverso[u][v >>> 6] &= ~bitV;
+            directo[v][u >>> 6] |= bitU;
+        } else {
+            directo[u][v >>> 6] &= ~bitV;
+            inverso[v][u >>> 6] |= bitU;
+        }
+        asignaciones += 2;
+    }
+
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
+    }
+
+    /**
+     * Devuelve el número de asignaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de asignaciones.
+     */
+    public int getAsignaciones() {
+        return asignaciones;
+    }
+
+    /**
+     * Devuelve el número de comparaciones realizadas durante la ejecución del algoritmo.
+     *
+     * @return El número de comparaciones.
+     */
+    public int getComparaciones() {
+        return comparaciones;
+    }
+}
@@ -12,6 +12,8 @@ public class FordFulkerson {
     private int[][] grafoResidual;
     private int asignaciones;
     private int comparaciones;
+    private CertificadoFlujo certificado;
+    private int busquedas;
 
     /**
      * Constructor de la clase FordFulkerson.
@@ -43,6 +45,9 @@ public class FordFulkerson {
      * @return Verdadero si existe un camino desde la fuente al sumidero, falso de lo contrario.
      */
     private boolean bfs(int fuente, int sumidero, int[] padres) {
+        busquedas++;
+        asignaciones++;
+
         boolean[] visitado = new boolean[numVertices];
         asignaciones++;
 
@@ -96,6 +101,19 @@ public class FordFulkerson {
      * @return El flujo máximo calculado.
      */
     public int flujoMaximo(int fuente, int sumidero) {
+        return flujoMaximo(fuente, sumidero, false);
+    }
+
+    /**
+     * Método para calcular el flujo máximo, con la opción de reutilizar cada BFS para aumentar
+     * por todos los caminos más cortos disjuntos en vértices que admita el grafo residual.
+     *
+     * @param fuente           El nodo fuente.
+     * @param sumidero         El nodo sumidero.
+     * @param multiplesCaminos true para aumentar por varios caminos en cada BFS.
+     * @return El flujo máximo calculado.
+     */
+    public int flujoMaximo(int fuente, int sumidero, boolean multiplesCaminos) {
         // Verificar que los nodos fuente y sumidero sean válidos
         if (fuente < 0 || sumidero < 0 || fuente >= numVertices || sumidero >= numVertices) {
             comparaciones += 2;
@@ -110,55 +128,198 @@ public class FordFulkerson {
         int[] padres = new int[numVertices];
         asignaciones++;
 
+        int[] distancia = new int[numVertices];
+        asignaciones++;
+
         int flujoMaximo = 0;
         asignaciones++;
 
         // Mientras haya un camino de aumento, actualizamos el flujo máximo
-        while (bfs(fuente, sumidero, padres)) {
+        while (multiplesCaminos ? bfsDistancias(fuente, sumidero, distancia) : bfs(fuente, sumidero, padres)) {
             comparaciones++;
 
-            int flujoCamino = Integer.MAX_VALUE;
-            asignaciones++;
-
-            // Encontrar el flujo mínimo en el camino encontrado
-            for (int v = sumidero; v != fuente; v = padres[v]) {
-                comparaciones++;
-
-                int u = padres[v];
+            if (multiplesCaminos) {
+                // Aumentar por caminos más cortos disjuntos en vértices con la misma BFS
+                boolean[] bloqueado = new boolean[numVertices];
                 asignaciones++;
 
-                flujoCamino = Math.min(flujoCamino, grafoResidual[u][v]);
+                while (dfsCamino(fuente, sumidero, distancia, bloqueado, padres)) {
+                    comparaciones++;
+
+                    flujoMaximo += aumentarCamino(fuente, sumidero, padres);
+                    asignaciones++;
+                }
+            } else {
+                flujoMaximo += aumentarCamino(fuente, sumidero, padres);
                 asignaciones++;
             }
+        }
+        comparaciones++;
+
+        certificado = CertificadoFlujo.desdeResidual(grafo.getCapacidad(), grafoResidual, fuente, flujoMaximo);
+        asignaciones++;
+
+        return flujoMaximo;
+    }
+
+
+    /**
+     * Método para aumentar el flujo por el camino guardado en padres y mostrar la ruta.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @param padres   Array con el camino encontrado.
+     * @return El flujo enviado por el camino.
+     */
+    private int aumentarCamino(int fuente, int sumidero, int[] padres) {
+        int flujoCamino = Integer.MAX_VALUE;
+        asignaciones++;
+
+        // Encontrar el flujo mínimo en el camino encontrado
+        for (int v = sumidero; v != fuente; v = padres[v]) {
+            comparaciones++;
+
+            int u = padres[v];
+            asignaciones++;
+
+            flujoCamino = Math.min(flujoCamino, grafoResidual[u][v]);
+            asignaciones++;
+        }
+        comparaciones++;
+
+        // Actualizar el flujo residual y mostrar la ruta
+        System.out.print("\033[31m Ruta encontrada: " + fuente);
+        for (int v = sumidero; v != fuente; v = padres[v]) {
+            comparaciones++;
+
+            int u = padres[v];
+            asignaciones++;
+
+            grafoResidual[u][v] -= flujoCamino;
+            asignaciones++;
+
+            grafoResidual[v][u] += flujoCamino;
+            asignaciones++;
+
+            System.out.print(" -> " + v);
+        }
+        System.out.println(" | Flujo del camino: \033[0m" + flujoCamino);
+
+        return flujoCamino;
+    }
+
+    /**
+     * Método para realizar una búsqueda en anchura (BFS) que calcula la distancia de cada vértice
+     * a la fuente en el grafo residual. Se detiene al alcanzar el sumidero.
+     *
+     * @param fuente    El nodo fuente del grafo.
+     * @param sumidero  El nodo sumidero del grafo.
+     * @param distancia Array para almacenar las distancias, -1 si el vértice no se alcanzó.
+     * @return Verdadero si se alcanzó el sumidero, falso de lo contrario.
+     */
+    private boolean bfsDistancias(int fuente, int sumidero, int[] distancia) {
+        busquedas++;
+        asignaciones++;
+
+        Queue<Integer> cola = new ArrayDeque<>();
+        asignaciones++;
+
+        for (int v = 0; v < numVertices; v++) {
+            comparaciones++;
+
+            distancia[v] = -1;
+            asignaciones++;
+        }
+
+        cola.add(fuente);
+        asignaciones++;
+
+        distancia[fuente] = 0;
+        asignaciones++;
+
+        while (!cola.isEmpty()) {
             comparaciones++;
 
-            // Actualizar el flujo residual y mostrar la ruta
-            System.out.print("\033[31m Ruta encontrada: " + fuente);
-            for (int v = sumidero; v != fuente; v = padres[v]) {
+            int u = cola.poll();
+            asignaciones++;
+
+            for (int v = 0; v < numVertices; v++) {
                 comparaciones++;
 
-                int u = padres[v];
-                asignaciones++;
+                if (distancia[v] == -1 && grafoResidual[u][v] > 0) {
+                    comparaciones += 2;
+                    distancia[v] = distancia[u] + 1;
+                    asignaciones++;
 
-                grafoResidual[u][v] -= flujoCamino;
-                asignaciones++;
+                    if (v == sumidero) {
+                        comparaciones++;
+                        return true;
+                    }
+
+                    cola.add(v);
+                    asignaciones++;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Método para buscar en profundidad un camino más corto de la fuente al sumidero sin pasar por
+     * vértices bloqueados. Cada vértice visitado se bloquea, ya sea porque queda en el camino o
+     * porque no tiene salida en esta BFS.
+     *
+     * @param u         Vértice actual.
+     * @param sumidero  El nodo sumidero del grafo.
+     * @param distancia Distancias calculadas por la BFS.
+     * @param bloqueado Vértices ya usados o sin salida.
+     * @param padres    Array que almacena el camino encontrado.
+     * @return Verdadero si se encontró un camino, falso de lo contrario.
+     */
+    private boolean dfsCamino(int u, int sumidero, int[] distancia, boolean[] bloqueado, int[] padres) {
+        for (int v = 0; v < numVertices; v++) {
+            comparaciones++;
 
-                grafoResidual[v][u] += flujoCamino;
+            if (!bloqueado[v] && distancia[v] == distancia[u] + 1 && grafoResidual[u][v] > 0) {
+                comparaciones += 3;
+                padres[v] = u;
                 asignaciones++;
 
-                System.out.print(" -> " + v);
-            }
-            System.out.println(" | Flujo del camino: \033[0m" + flujoCamino);
+                if (v == sumidero) {
+                    comparaciones++;
+                    return true;
+                }
 
+                bloqueado[v] = true;
+                asignaciones++;
 
-            flujoMaximo += flujoCamino;
-            asignaciones++;
+                if (dfsCamino(v, sumidero, distancia, bloqueado, padres)) {
+                    return true;
+                }
+            }
         }
-        comparaciones++;
+        return false;
+    }
 
-        return flujoMaximo;
+    /**
+     * Devuelve el certificado del último cálculo del flujo máximo: el flujo de cada arista
+     * y el lado de la fuente de un corte mínimo.
+     *
+     * @return El certificado, o null si aún no se ha calculado el flujo.
+     */
+    public CertificadoFlujo getCertificado() {
+        return certificado;
     }
 
+    /**
+     * Método para obtener el número de búsquedas en anchura (BFS) realizadas durante la ejecución,
+     * incluida la última, que ya no encuentra camino de aumento.
+     *
+     * @return El número de búsquedas.
+     */
+    public int getBusquedas() {
+        return busquedas;
+    }
 
     /**
      * Método para obtener el número de asignaciones realizadas durante la ejecución.
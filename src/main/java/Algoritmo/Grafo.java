@@ -41,6 +41,77 @@ public class Grafo {
         return capacidad;
     }
 
+    /**
+     * Indica si todas las aristas del grafo tienen capacidad 1 (red de capacidad unitaria).
+     *
+     * @return true si toda capacidad es 0 o 1, false de lo contrario.
+     */
+    public boolean esCapacidadUnitaria() {
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (capacidad[i][j] > 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el grafo es un problema de emparejamiento bipartito: la fuente solo tiene aristas
+     * de capacidad 1 hacia un conjunto izquierdo, el conjunto izquierdo solo tiene aristas hacia
+     * un conjunto derecho disjunto, y el conjunto derecho solo tiene aristas de capacidad 1 hacia
+     * el sumidero. En ese caso el flujo máximo es el tamaño del emparejamiento máximo.
+     *
+     * @param fuente   El nodo fuente.
+     * @param sumidero El nodo sumidero.
+     * @return true si el grafo tiene estructura bipartita respecto a la fuente y el sumidero.
+     */
+    public boolean esBipartito(int fuente, int sumidero) {
+        // 1 = lado izquierdo, 2 = lado derecho, 0 = sin clasificar
+        int[] lado = new int[numVertices];
+
+        for (int v = 0; v < numVertices; v++) {
+            if (capacidad[fuente][v] > 0) {
+                if (capacidad[fuente][v] != 1 || v == sumidero) {
+                    return false;
+                }
+                lado[v] = 1;
+            }
+        }
+
+        for (int u = 0; u < numVertices; u++) {
+            if (lado[u] != 1) {
+                continue;
+            }
+            for (int v = 0; v < numVertices; v++) {
+                if (capacidad[u][v] > 0) {
+                    if (lado[v] == 1 || v == fuente || v == sumidero) {
+                        return false;
+                    }
+                    lado[v] = 2;
+                }
+            }
+        }
+
+        // Toda arista debe ser fuente -> izquierdo, izquierdo -> derecho o derecho -> sumidero (capacidad 1);
+        // un vértice sin aristas desde el lado izquierdo también puede llegar al sumidero, aunque no se empareje
+        for (int u = 0; u < numVertices; u++) {
+            for (int v = 0; v < numVertices; v++) {
+                if (capacidad[u][v] == 0) {
+                    continue;
+                }
+                boolean permitida = (u == fuente && lado[v] == 1)
+                        || (lado[u] == 1 && lado[v] == 2)
+                        || (lado[u] != 1 && u != fuente && v == sumidero && capacidad[u][v] == 1);
+                if (!permitida) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Genera un grafo aleatorio con un número específico de vértices y aristas.
      * Las capacidades de las aristas se generan de forma aleatoria entre 20 y 700.
@@ -109,4 +180,66 @@ public class Grafo {
 
         return grafo;
     }
+
+    /**
+     * Genera un grafo largo en capas: la fuente (0) se conecta con la primera capa, cada vértice
+     * de una capa se conecta con todos los de la capa siguiente y la última capa se conecta con
+     * el sumidero (último vértice). Los caminos de aumento tienen longitud capas + 1, por lo que
+     * sirven para medir algoritmos donde el largo del camino es el cuello de botella.
+     * Las capacidades se generan de forma aleatoria entre 20 y 700.
+     *
+     * @param capas Número de capas intermedias.
+     * @param ancho Número de vértices por capa.
+     * @return Un objeto Grafo en capas con capas * ancho + 2 vértices.
+     */
+    public static Grafo generarGrafoEnCapas(int capas, int ancho) {
+        int vertices = capas * ancho + 2;
+        Grafo grafo = new Grafo(vertices);
+        Random rand = new Random();
+        int sumidero = vertices - 1;
+
+        for (int j = 0; j < ancho; j++) {
+            grafo.agregarArista(0, 1 + j, 20 + rand.nextInt(681));
+            grafo.agregarArista(1 + (capas - 1) * ancho + j, sumidero, 20 + rand.nextInt(681));
+        }
+
+        for (int c = 0; c < capas - 1; c++) {
+            for (int i = 0; i < ancho; i++) {
+                for (int j = 0; j < ancho; j++) {
+                    grafo.agregarArista(1 + c * ancho + i, 1 + (c + 1) * ancho + j, 20 + rand.nextInt(681));
+                }
+            }
+        }
+
+        return grafo;
+    }
+
+    /**
+     * Genera un problema de asignación bipartito aleatorio: la fuente (0) se conecta con los
+     * vértices izquierdos, estos se conectan al azar con los derechos y los derechos se conectan
+     * con el sumidero (último vértice). Todas las capacidades son 1.
+     *
+     * @param izquierda Número de vértices del lado izquierdo.
+     * @param derecha   Número de vértices del lado derecho.
+     * @param arcos     Número de aristas entre ambos lados.
+     * @return Un objeto Grafo bipartito con izquierda + derecha + 2 vértices.
+     */
+    public static Grafo generarGrafoBipartitoAleatorio(int izquierda, int derecha, int arcos) {
+        int vertices = izquierda + derecha + 2;
+        Grafo grafo = new Grafo(vertices);
+        Random rand = new Random();
+        int sumidero = vertices - 1;
+
+        for (int i = 0; i < izquierda; i++) {
+            grafo.agregarArista(0, 1 + i, 1);
+        }
+        for (int j = 0; j < derecha; j++) {
+            grafo.agregarArista(1 + izquierda + j, sumidero, 1);
+        }
+        for (int k = 0; k < arcos; k++) {
+            grafo.agregarArista(1 + rand.nextInt(izquierda), 1 + izquierda + rand.nextInt(derecha), 1);
+        }
+
+        return grafo;
+    }
 }
@@ -38,17 +38,22 @@ public class Main {
 
         // Ejecutar y medir Edmonds-Karp
         EdmondsKarp ekQuemado = new EdmondsKarp(grafoQuemado);
-        medirAlgoritmoEdmondsKarp("Edmonds-Karp", ekQuemado, 0, 10 - 1, 10, 12);
+        medirAlgoritmoEdmondsKarp("Edmonds-Karp", ekQuemado, grafoQuemado, 0, 10 - 1, 10, 12);
 
 
         // Ejecutar y medir Ford-Fulkerson
         FordFulkerson ffQuemado = new FordFulkerson(grafoQuemado);
-        medirAlgoritmoFordFulkerson("Ford-Fulkerson", ffQuemado, 0, 10 - 1, 10, 12);
+        medirAlgoritmoFordFulkerson("Ford-Fulkerson", ffQuemado, grafoQuemado, 0, 10 - 1, 10, 12);
+
+
+        // Ejecutar y medir Edmonds-Karp para grafos densos
+        EdmondsKarpDenso ekDensoQuemado = new EdmondsKarpDenso(grafoQuemado);
+        medirAlgoritmoEdmondsKarpDenso("Edmonds-Karp (denso)", ekDensoQuemado, grafoQuemado, 0, 10 - 1, 10, 12);
 
 
         // Ejecutar y medir Dinic
         Dinic dinicQuemado = new Dinic(grafoQuemado);
-        medirAlgoritmoDinic("Dinic", dinicQuemado, 0, 10 - 1, 10, 12);
+        medirAlgoritmoDinic("Dinic", dinicQuemado, grafoQuemado, 0, 10 - 1, 10, 12);
 
         System.out.println("------------Grafos Aleatorios-------------------------------------");
         for (int[] caso : casos) {
@@ -59,17 +64,109 @@ public class Main {
 
             // Ejecutar y medir Edmonds-Karp
             EdmondsKarp ek = new EdmondsKarp(grafo);
-            medirAlgoritmoEdmondsKarp("Edmonds-Karp", ek, 0, vertices - 1, vertices, arcos);
+            medirAlgoritmoEdmondsKarp("Edmonds-Karp", ek, grafo, 0, vertices - 1, vertices, arcos);
 
 
             // Ejecutar y medir Ford-Fulkerson
             FordFulkerson ff = new FordFulkerson(grafo);
-            medirAlgoritmoFordFulkerson("Ford-Fulkerson", ff, 0, vertices - 1, vertices, arcos);
+            medirAlgoritmoFordFulkerson("Ford-Fulkerson", ff, grafo, 0, vertices - 1, vertices, arcos);
+
+
+            // Ejecutar y medir Edmonds-Karp para grafos densos
+            EdmondsKarpDenso ekDenso = new EdmondsKarpDenso(grafo);
+            medirAlgoritmoEdmondsKarpDenso("Edmonds-Karp (denso)", ekDenso, grafo, 0, vertices - 1, vertices, arcos);
+
+
+            // Ejecutar y medir Dinic
+            Dinic dinic = new Dinic(grafo);
+            medirAlgoritmoDinic("Dinic", dinic, grafo, 0, vertices - 1, vertices, arcos);
+        }
+
+        // Parámetros para los grafos en capas {Capas, vértices por capa}
+        int[][] casosEnCapas = {
+                {100, 3}, {300, 3}, {600, 2}
+        };
+
+        System.out.println("------------Grafos en capas-------------------------------------");
+        for (int[] caso : casosEnCapas) {
+            Grafo grafo = Grafo.generarGrafoEnCapas(caso[0], caso[1]);
+            int vertices = grafo.getCapacidad().length;
+            int arcos = 2 * caso[1] + (caso[0] - 1) * caso[1] * caso[1];
+
+            // Ejecutar y medir Dinic con árboles dinámicos
+            DinicArbolesDinamicos dinicArboles = new DinicArbolesDinamicos(grafo);
+            medirAlgoritmoDinicArbolesDinamicos("Dinic (árboles dinámicos)", dinicArboles, grafo, 0, vertices - 1, vertices, arcos);
 
 
             // Ejecutar y medir Dinic
             Dinic dinic = new Dinic(grafo);
-            medirAlgoritmoDinic("Dinic", dinic, 0, vertices - 1, vertices, arcos);
+            medirAlgoritmoDinic("Dinic", dinic, grafo, 0, vertices - 1, vertices, arcos);
+        }
+
+        // Parámetros para los problemas de asignación {Izquierda, derecha, arcos entre ambos lados}
+        int[][] casosBipartitos = {
+                {50, 50, 200}, {200, 200, 1600}, {500, 500, 5000}
+        };
+
+        System.out.println("------------Grafos bipartitos (capacidad unitaria)-------------------------------------");
+        for (int[] caso : casosBipartitos) {
+            Grafo grafo = Grafo.generarGrafoBipartitoAleatorio(caso[0], caso[1], caso[2]);
+            int vertices = grafo.getCapacidad().length;
+            int arcos = caso[0] + caso[1] + caso[2];
+
+            // Ejecutar y medir Edmonds-Karp
+            EdmondsKarp ek = new EdmondsKarp(grafo);
+            medirAlgoritmoEdmondsKarp("Edmonds-Karp", ek, grafo, 0, vertices - 1, vertices, arcos);
+
+
+            // Ejecutar y medir Dinic (detecta la estructura y usa Hopcroft-Karp)
+            Dinic dinic = new Dinic(grafo);
+            medirAlgoritmoDinic("Dinic (Hopcroft-Karp)", dinic, grafo, 0, vertices - 1, vertices, arcos);
+        }
+
+        // Parámetros para los grafos anchos {Capas, vértices por capa}
+        int[][] casosAnchos = {
+                {4, 400}, {3, 900}
+        };
+
+        System.out.println("------------Grafos anchos-------------------------------------");
+        // La BFS paralela solo puede ganar con más de un núcleo; con uno solo mide su sobrecosto
+        System.out.println("Núcleos disponibles: " + Runtime.getRuntime().availableProcessors());
+        for (int[] caso : casosAnchos) {
+            Grafo grafo = Grafo.generarGrafoEnCapas(caso[0], caso[1]);
+            int vertices = grafo.getCapacidad().length;
+            int arcos = 2 * caso[1] + (caso[0] - 1) * caso[1] * caso[1];
+
+            // Ejecutar y medir Dinic con BFS secuencial y con BFS paralela sobre el mismo grafo
+            Dinic dinic = new Dinic(grafo);
+            medirAlgoritmoDinic("Dinic", dinic, grafo, 0, vertices - 1, vertices, arcos, false);
+
+            Dinic dinicParalelo = new Dinic(grafo);
+            medirAlgoritmoDinic("Dinic (BFS paralela)", dinicParalelo, grafo, 0, vertices - 1, vertices, arcos, true);
+        }
+
+        // Los mismos casos más grafos aleatorios grandes, para comparar un camino por BFS contra varios
+        int[][] casosAumentoMultiple = {
+                {20, 24}, {40, 48}, {80, 56},
+                {10, 100}, {20, 400}, {40, 1600}, {80, 6400},
+                {200, 4000}, {500, 25000}
+        };
+
+        System.out.println("------------Aumento por varios caminos en cada BFS-------------------------------------");
+        for (int[] caso : casosAumentoMultiple) {
+            int vertices = caso[0];
+            int arcos = caso[1];
+
+            Grafo grafo = Grafo.generarGrafoAleatorio(vertices, arcos);
+
+            // Ejecutar y medir Edmonds-Karp con un camino y con varios caminos por BFS
+            medirAlgoritmoEdmondsKarp("Edmonds-Karp", new EdmondsKarp(grafo), grafo, 0, vertices - 1, vertices, arcos, false);
+            medirAlgoritmoEdmondsKarp("Edmonds-Karp (varios caminos por BFS)", new EdmondsKarp(grafo), grafo, 0, vertices - 1, vertices, arcos, true);
+
+
+            // Ejecutar y medir Ford-Fulkerson con un camino y con varios caminos por BFS
+            medirAlgoritmoFordFulkerson("Ford-Fulkerson", new FordFulkerson(grafo), grafo, 0, vertices - 1, vertices, arcos, false);
+            medirAlgoritmoFordFulkerson("Ford-Fulkerson (varios caminos por BFS)", new FordFulkerson(grafo), grafo, 0, vertices - 1, vertices, arcos, true);
         }
     }
 
@@ -80,14 +177,32 @@ public class Main {
      *
      * @param nombre    Nombre del algoritmo a medir.
      * @param algoritmo Instancia del algoritmo a medir.
+     * @param grafo     Grafo original, para verificar el certificado del flujo.
      * @param fuente    Nodo fuente para el cálculo del flujo máximo.
      * @param sumidero  Nodo sumidero para el cálculo del flujo máximo.
      * @param vertices  Número de vértices en el grafo.
      * @param arcos     Número de aristas en el grafo.
      */
-    private static void medirAlgoritmoEdmondsKarp(String nombre, EdmondsKarp algoritmo, int fuente, int sumidero, int vertices, int arcos) {
+    private static void medirAlgoritmoEdmondsKarp(String nombre, EdmondsKarp algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos) {
+        medirAlgoritmoEdmondsKarp(nombre, algoritmo, grafo, fuente, sumidero, vertices, arcos, false);
+    }
+
+    /**
+     * Igual que {@link #medirAlgoritmoEdmondsKarp(String, EdmondsKarp, Grafo, int, int, int, int)},
+     * pero permite elegir el aumento por varios caminos en cada BFS.
+     *
+     * @param nombre           Nombre del algoritmo a medir.
+     * @param algoritmo        Instancia del algoritmo a medir.
+     * @param grafo            Grafo original, para verificar el certificado del flujo.
+     * @param fuente           Nodo fuente para el cálculo del flujo máximo.
+     * @param sumidero         Nodo sumidero para el cálculo del flujo máximo.
+     * @param vertices         Número de vértices en el grafo.
+     * @param arcos            Número de aristas en el grafo.
+     * @param multiplesCaminos true para aumentar por varios caminos en cada BFS.
+     */
+    private static void medirAlgoritmoEdmondsKarp(String nombre, EdmondsKarp algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos, boolean multiplesCaminos) {
         long inicio = System.nanoTime();  // Iniciar el conteo de tiempo en nanosegundos
-        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero);
+        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero, multiplesCaminos);
         long fin = System.nanoTime();  // Finalizar el conteo de tiempo en nanosegundos
 
         // Convertir el tiempo de ejecución a milisegundos con precisión de 3 decimales
@@ -102,7 +217,40 @@ public class Main {
         System.out.printf("Tiempo de ejecución: %.3f ms%n", tiempoEjecucion); // Aplicando la precisión de 3 decimales
         System.out.println("Asignaciones: " + algoritmo.getAsignaciones());
         System.out.println("Comparaciones: " + algoritmo.getComparaciones());
+        System.out.println("Búsquedas BFS: " + algoritmo.getBusquedas());
         System.out.println("Tipo de grafo: " + tipoGrafo);
+        System.out.println("Certificado verificado: " + (VerificadorFlujo.verificar(grafo, fuente, sumidero, algoritmo.getCertificado()) ? "sí" : "no"));
+        System.out.println("-------------------------------------------");
+    }
+
+    /**
+     * Método para medir el tiempo de ejecución, el flujo máximo calculado,
+     * las métricas (asignaciones y comparaciones) del algoritmo Edmonds-Karp para grafos densos,
+     * y determinar si el grafo es denso o ligero.
+     *
+     * @param nombre    Nombre del algoritmo a medir.
+     * @param algoritmo Instancia del algoritmo a medir.
+     * @param grafo     Grafo original, para verificar el certificado del flujo.
+     * @param fuente    Nodo fuente para el cálculo del flujo máximo.
+     * @param sumidero  Nodo sumidero para el cálculo del flujo máximo.
+     * @param vertices  Número de vértices en el grafo.
+     * @param arcos     Número de aristas en el grafo.
+     */
+    private static void medirAlgoritmoEdmondsKarpDenso(String nombre, EdmondsKarpDenso algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos) {
+        long inicio = System.nanoTime();
+        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero);
+        long fin = System.nanoTime();
+        double tiempoEjecucion = (fin - inicio) / 1_000_000.0;
+
+        int maxArcosPosibles = vertices * (vertices - 1);
+        String tipoGrafo = (arcos > maxArcosPosibles / 2) ? "Denso" : "Ligero";
+
+        System.out.println(nombre + " - Flujo máximo: " + flujoMaximo);
+        System.out.printf("Tiempo de ejecución: %.3f ms%n", tiempoEjecucion);
+        System.out.println("Asignaciones: " + algoritmo.getAsignaciones());
+        System.out.println("Comparaciones: " + algoritmo.getComparaciones());
+        System.out.println("Tipo de grafo: " + tipoGrafo);
+        System.out.println("Certificado verificado: " + (VerificadorFlujo.verificar(grafo, fuente, sumidero, algoritmo.getCertificado()) ? "sí" : "no"));
         System.out.println("-------------------------------------------");
     }
 
@@ -113,14 +261,32 @@ public class Main {
      *
      * @param nombre    Nombre del algoritmo a medir.
      * @param algoritmo Instancia del algoritmo a medir.
+     * @param grafo     Grafo original, para verificar el certificado del flujo.
      * @param fuente    Nodo fuente para el cálculo del flujo máximo.
      * @param sumidero  Nodo sumidero para el cálculo del flujo máximo.
      * @param vertices  Número de vértices en el grafo.
      * @param arcos     Número de aristas en el grafo.
      */
-    private static void medirAlgoritmoDinic(String nombre, Dinic algoritmo, int fuente, int sumidero, int vertices, int arcos) {
+    private static void medirAlgoritmoDinic(String nombre, Dinic algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos) {
+        medirAlgoritmoDinic(nombre, algoritmo, grafo, fuente, sumidero, vertices, arcos, false);
+    }
+
+    /**
+     * Igual que {@link #medirAlgoritmoDinic(String, Dinic, Grafo, int, int, int, int)}, pero permite
+     * elegir si el grafo de niveles se construye con la BFS paralela.
+     *
+     * @param nombre      Nombre del algoritmo a medir.
+     * @param algoritmo   Instancia del algoritmo a medir.
+     * @param grafo       Grafo original, para verificar el certificado del flujo.
+     * @param fuente      Nodo fuente para el cálculo del flujo máximo.
+     * @param sumidero    Nodo sumidero para el cálculo del flujo máximo.
+     * @param vertices    Número de vértices en el grafo.
+     * @param arcos       Número de aristas en el grafo.
+     * @param bfsParalela true para usar la BFS paralela.
+     */
+    private static void medirAlgoritmoDinic(String nombre, Dinic algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos, boolean bfsParalela) {
         long inicio = System.nanoTime();  // Iniciar el conteo de tiempo en nanosegundos
-        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero);
+        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero, bfsParalela);
         long fin = System.nanoTime();  // Finalizar el conteo de tiempo en nanosegundos
 
         // Convertir el tiempo de ejecución a milisegundos con precisión de 3 decimales
@@ -136,10 +302,24 @@ public class Main {
         System.out.println("Asignaciones: " + algoritmo.getAsignaciones());
         System.out.println("Comparaciones: " + algoritmo.getComparaciones());
         System.out.println("Tipo de grafo: " + tipoGrafo);
+        System.out.println("Certificado verificado: " + (VerificadorFlujo.verificar(grafo, fuente, sumidero, algoritmo.getCertificado()) ? "sí" : "no"));
         System.out.println("-------------------------------------------");
     }
 
-    private static void medirAlgoritmoFordFulkerson(String nombre, FordFulkerson algoritmo, int fuente, int sumidero, int vertices, int arcos) {
+    /**
+     * Método para medir el tiempo de ejecución, el flujo máximo calculado,
+     * las métricas (asignaciones y comparaciones) del algoritmo Dinic con árboles dinámicos,
+     * y determinar si el grafo es denso o ligero.
+     *
+     * @param nombre    Nombre del algoritmo a medir.
+     * @param algoritmo Instancia del algoritmo a medir.
+     * @param grafo     Grafo original, para verificar el certificado del flujo.
+     * @param fuente    Nodo fuente para el cálculo del flujo máximo.
+     * @param sumidero  Nodo sumidero para el cálculo del flujo máximo.
+     * @param vertices  Número de vértices en el grafo.
+     * @param arcos     Número de aristas en el grafo.
+     */
+    private static void medirAlgoritmoDinicArbolesDinamicos(String nombre, DinicArbolesDinamicos algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos) {
         long inicio = System.nanoTime();
         int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero);
         long fin = System.nanoTime();
@@ -153,6 +333,30 @@ public class Main {
         System.out.println("Asignaciones: " + algoritmo.getAsignaciones());
         System.out.println("Comparaciones: " + algoritmo.getComparaciones());
         System.out.println("Tipo de grafo: " + tipoGrafo);
+        System.out.println("Certificado verificado: " + (VerificadorFlujo.verificar(grafo, fuente, sumidero, algoritmo.getCertificado()) ? "sí" : "no"));
+        System.out.println("-------------------------------------------");
+    }
+
+    private static void medirAlgoritmoFordFulkerson(String nombre, FordFulkerson algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos) {
+        medirAlgoritmoFordFulkerson(nombre, algoritmo, grafo, fuente, sumidero, vertices, arcos, false);
+    }
+
+    private static void medirAlgoritmoFordFulkerson(String nombre, FordFulkerson algoritmo, Grafo grafo, int fuente, int sumidero, int vertices, int arcos, boolean multiplesCaminos) {
+        long inicio = System.nanoTime();
+        int flujoMaximo = algoritmo.flujoMaximo(fuente, sumidero, multiplesCaminos);
+        long fin = System.nanoTime();
+        double tiempoEjecucion = (fin - inicio) / 1_000_000.0;
+
+        int maxArcosPosibles = vertices * (vertices - 1);
+        String tipoGrafo = (arcos > maxArcosPosibles / 2) ? "Denso" : "Ligero";
+
+        System.out.println(nombre + " - Flujo máximo: " + flujoMaximo);
+        System.out.printf("Tiempo de ejecución: %.3f ms%n", tiempoEjecucion);
+        System.out.println("Asignaciones: " + algoritmo.getAsignaciones());
+        System.out.println("Comparaciones: " + algoritmo.getComparaciones());
+        System.out.println("Búsquedas BFS: " + algoritmo.getBusquedas());
+        System.out.println("Tipo de grafo: " + tipoGrafo);
+        System.out.println("Certificado verificado: " + (VerificadorFlujo.verificar(grafo, fuente, sumidero, algoritmo.getCertificado()) ? "sí" : "no"));
         System.out.println("-------------------------------------------");
 
     }
@@ -0,0 +1,61 @@
+package Algoritmo;
+
+/**
+ * Clase que verifica un {@link CertificadoFlujo} en una sola pasada sobre las aristas del grafo.
+ * Si el flujo respeta las capacidades, se conserva en cada vértice intermedio y su valor es igual
+ * a la capacidad del corte del certificado, entonces el flujo es máximo y el corte es mínimo.
+ */
+public class VerificadorFlujo {
+
+    /**
+     * Verifica el certificado contra el grafo original.
+     *
+     * @param grafo       Grafo con la matriz de capacidades original.
+     * @param fuente      El nodo fuente.
+     * @param sumidero    El nodo sumidero.
+     * @param certificado Certificado devuelto por el algoritmo.
+     * @return true si el flujo es válido y su valor es igual al del corte, false de lo contrario.
+     */
+    public static boolean verificar(Grafo grafo, int fuente, int sumidero, CertificadoFlujo certificado) {
+        int[][] capacidad = grafo.getCapacidad();
+        int[][] flujo = certificado.getFlujo();
+        boolean[] ladoFuente = certificado.getLadoFuente();
+        int numVertices = capacidad.length;
+
+        // El corte debe separar la fuente del sumidero
+        if (!ladoFuente[fuente] || ladoFuente[sumidero]) {
+            return false;
+        }
+
+        long[] balance = new long[numVertices]; // Flujo que entra menos flujo que sale
+        long capacidadCorte = 0;
+
+        for (int u = 0; u < numVertices; u++) {
+            for (int v = 0; v < numVertices; v++) {
+                int f = flujo[u][v];
+
+                // Cotas de capacidad
+                if (f < 0 || f > capacidad[u][v]) {
+                    return false;
+                }
+
+                balance[u] -= f;
+                balance[v] += f;
+
+                if (ladoFuente[u] && !ladoFuente[v]) {
+                    capacidadCorte += capacidad[u][v];
+                }
+            }
+        }
+
+        // Conservación del flujo en los vértices intermedios
+        for (int v = 0; v < numVertices; v++) {
+            if (v != fuente && v != sumidero && balance[v] != 0) {
+                return false;
+            }
+        }
+
+        long valorFlujo = -balance[fuente];
+        return valorFlujo == certificado.getFlujoMaximo() && valorFlujo == capacidadCorte;
+    }
+}